@@ -38,6 +38,8 @@ import org.openapitools.codegen.DefaultGenerator;
 import org.openapitools.codegen.config.CodegenConfigurator;
 import org.openapitools.codegen.config.DynamicSettings;
 import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.config.SharedSpecParser;
+import org.openapitools.codegen.config.SpecParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -141,6 +143,10 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
         SimpleModule module = getCustomDeserializationModel(includesDir);
         List<CodegenConfigurator> configurators = configs.stream().map(config -> CodegenConfigurator.fromFile(config, module)).collect(Collectors.toList());
 
+        // Generators sharing an input spec only parse it once, and each one gets its own copy of it.
+        SpecParser specParser = new SharedSpecParser();
+        configurators.forEach(configurator -> configurator.setSpecParser(specParser));
+
         // it doesn't make sense to interleave INFO level logs, so limit these to only ERROR.
         LoggerContext lc = (LoggerContext) LoggerFactory.getILoggerFactory();
         Stream.of(Logger.ROOT_LOGGER_NAME, "io.swagger", "org.openapitools")
@@ -44,6 +44,10 @@ public class Validate extends OpenApiGeneratorCommand {
     @Option(name = { "--recommend"}, title = "recommend spec improvements")
     private Boolean recommend;
 
+    @Option(name = { "--timings"}, title = "print validation timings",
+            description = "print the time spent by each category of validations")
+    private Boolean timings;
+
     @Override
     public void execute() {
         System.out.println("Validating spec (" + spec + ")");
@@ -65,6 +69,11 @@ public class Validate extends OpenApiGeneratorCommand {
         OpenApiEvaluator evaluator = new OpenApiEvaluator(ruleConfiguration);
         ValidationResult validationResult = evaluator.validate(specification);
 
+        if (Boolean.TRUE.equals(timings)) {
+            evaluator.getTimings().forEach((category, duration) ->
+                    System.out.println("\t" + category + ": " + duration.toMillis() + " ms"));
+        }
+
         // TODO: We could also provide description here along with getMessage. getMessage is either a "generic" message or specific (e.g. Model 'Cat' has issues).
         //       This would require that we parse the messageList coming from swagger-parser into a better structure.
         validationResult.getWarnings().forEach(invalid -> warnings.add(invalid.getMessage()));
@@ -25,6 +25,7 @@ package org.openapitools.codegen.online.api;
 import io.swagger.annotations.*;
 import org.openapitools.codegen.CliOption;
 import org.openapitools.codegen.online.model.GeneratorInput;
+import org.openapitools.codegen.online.model.JobStatus;
 import org.openapitools.codegen.online.model.ResponseCode;
 import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
@@ -52,7 +53,7 @@ public interface GenApi {
     }
 
 
-    @ApiOperation(value = "Downloads a pre-generated file", nickname = "downloadFile", notes = "A valid `fileId` is generated by the `/clients/{language}` or `/servers/{language}` POST operations.  The fileId code can be used just once, after which a new `fileId` will need to be requested.", response = MultipartFile.class, tags={ "clients","servers", })
+    @ApiOperation(value = "Downloads a pre-generated file", nickname = "downloadFile", notes = "A valid `fileId` is generated by the `/clients/{language}` or `/servers/{language}` POST operations, or is the code of a completed job.  The fileId code can be used just once, after which a new `fileId` will need to be requested.", response = MultipartFile.class, tags={ "clients","servers", })
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "successful operation", response = MultipartFile.class) })
     @RequestMapping(value = "/gen/download/{fileId}",
@@ -83,6 +84,42 @@ public interface GenApi {
     }
 
 
+    @ApiOperation(value = "Submits a job generating a client library", nickname = "submitClientJob", notes = "Accepts a `GeneratorInput` options map for spec location and generation options. The job is polled with `/jobs/{code}`, and its code is used to download the client library once it's done.", response = JobStatus.class, tags={ "clients","jobs", })
+    @ApiResponses(value = {
+            @ApiResponse(code = 202, message = "job submitted", response = JobStatus.class),
+            @ApiResponse(code = 503, message = "too many jobs are waiting already") })
+    @RequestMapping(value = "/gen/jobs/clients/{language}",
+            produces = { "application/json" },
+            method = RequestMethod.POST)
+    default ResponseEntity<JobStatus> submitClientJob(@ApiParam(value = "The target language for the client library",required=true) @PathVariable("language") String language,@ApiParam(value = "Configuration for building the client library" ,required=true )  @Valid @RequestBody GeneratorInput generatorInput) {
+        return getDelegate().submitClientJob(language, generatorInput);
+    }
+
+
+    @ApiOperation(value = "Submits a job generating a server library", nickname = "submitServerJob", notes = "Accepts a `GeneratorInput` options map for spec location and generation options. The job is polled with `/jobs/{code}`, and its code is used to download the server library once it's done.", response = JobStatus.class, tags={ "servers","jobs", })
+    @ApiResponses(value = {
+            @ApiResponse(code = 202, message = "job submitted", response = JobStatus.class),
+            @ApiResponse(code = 503, message = "too many jobs are waiting already") })
+    @RequestMapping(value = "/gen/jobs/servers/{framework}",
+            produces = { "application/json" },
+            method = RequestMethod.POST)
+    default ResponseEntity<JobStatus> submitServerJob(@ApiParam(value = "framework",required=true) @PathVariable("framework") String framework,@ApiParam(value = "parameters" ,required=true )  @Valid @RequestBody GeneratorInput generatorInput) {
+        return getDelegate().submitServerJob(framework, generatorInput);
+    }
+
+
+    @ApiOperation(value = "Gets the status of a generation job", nickname = "getJob", notes = "Jobs are kept until their file is downloaded, or until they expire.", response = JobStatus.class, tags={ "jobs", })
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "successful operation", response = JobStatus.class),
+            @ApiResponse(code = 404, message = "unknown or expired job") })
+    @RequestMapping(value = "/gen/jobs/{code}",
+            produces = { "application/json" },
+            method = RequestMethod.GET)
+    default ResponseEntity<JobStatus> getJob(@ApiParam(value = "",required=true) @PathVariable("code") String code) {
+        return getDelegate().getJob(code);
+    }
+
+
     @ApiOperation(value = "Returns options for a client library", nickname = "getClientOptions", notes = "", tags={ "clients", })
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "successful operation") })
@@ -19,6 +19,7 @@ package org.openapitools.codegen.online.api;
 
 import org.openapitools.codegen.CliOption;
 import org.openapitools.codegen.online.model.GeneratorInput;
+import org.openapitools.codegen.online.model.JobStatus;
 import org.openapitools.codegen.online.model.ResponseCode;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
@@ -108,6 +109,38 @@ public interface GenApiDelegate {
 
     }
 
+    /**
+     * @param language The target generator (language is a misnomer here, but kept for API consistency).
+     * @param generatorInput The configuration settings to be used during client generation.
+     * @see GenApi#submitClientJob
+     * @return A {@link ResponseEntity} with the status of the job generating the requested client code.
+     */
+    default ResponseEntity<JobStatus> submitClientJob(String language, GeneratorInput generatorInput) {
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+    /**
+     * @param framework The target generator name (framework is a slight misnomer here, as we may have a framework like Spring implemented in multiple languages).
+     * @param generatorInput The configuration settings to be used during server generation.
+     * @see GenApi#submitServerJob
+     * @return A {@link ResponseEntity} with the status of the job generating the requested server code.
+     */
+    default ResponseEntity<JobStatus> submitServerJob(String framework, GeneratorInput generatorInput) {
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+    /**
+     * @param code The code of the job, provided in a {@link JobStatus} response.
+     * @see GenApi#getJob
+     * @return A {@link ResponseEntity} with the status of the job.
+     */
+    default ResponseEntity<JobStatus> getJob(String code) {
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
     /**
      * @param language The target generator (language is a misnomer here, but kept for API consistency).
      * @see GenApi#getClientOptions
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.model;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Setter @NoArgsConstructor @AllArgsConstructor
+public class JobStatus {
+    private String code;
+    private String status;
+    private String message;
+    private String link;
+
+    @ApiModelProperty(value = "Job code, which is also the file download code once the job is done",
+            example = "d40029be-eda6-4d62-b1ef-d05e2e91a72a")
+    public String getCode() {
+        return code;
+    }
+
+    @ApiModelProperty(value = "Job status", allowableValues = "queued, running, done, failed", example = "done")
+    public String getStatus() {
+        return status;
+    }
+
+    @ApiModelProperty(value = "Reason the job failed")
+    public String getMessage() {
+        return message;
+    }
+
+    @ApiModelProperty(
+            value = "URL for fetching the generated client or server once the job is done, or for polling the job until then",
+            example = "http://localhost:8080/api/gen/download/d40029be-eda6-4d62-b1ef-d05e2e91a72a")
+    public String getLink() {
+        return link;
+    }
+}
@@ -17,15 +17,14 @@
 
 package org.openapitools.codegen.online.service;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.openapitools.codegen.CliOption;
-import org.openapitools.codegen.CodegenConfig;
 import org.openapitools.codegen.CodegenConfigLoader;
 import org.openapitools.codegen.CodegenType;
 import org.openapitools.codegen.online.api.GenApiDelegate;
-import org.openapitools.codegen.online.model.Generated;
 import org.openapitools.codegen.online.model.GeneratorInput;
+import org.openapitools.codegen.online.model.JobStatus;
 import org.openapitools.codegen.online.model.ResponseCode;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ByteArrayResource;
@@ -39,35 +38,23 @@ import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 @Service
 public class GenApiService implements GenApiDelegate {
 
-    private static List<String> clients = new ArrayList<>();
-    private static List<String> servers = new ArrayList<>();
-    private static Map<String, Generated> fileMap = new HashMap<>();
-
-    static {
-        List<CodegenConfig> extensions = CodegenConfigLoader.getAll();
-        for (CodegenConfig config : extensions) {
-            if (config.getTag().equals(CodegenType.CLIENT)
-                    || config.getTag().equals(CodegenType.DOCUMENTATION)) {
-                clients.add(config.getName());
-            } else if (config.getTag().equals(CodegenType.SERVER)) {
-                servers.add(config.getName());
-            }
-        }
+    private static List<String> clients = getSortedNames(CodegenType.CLIENT, CodegenType.DOCUMENTATION);
+    private static List<String> servers = getSortedNames(CodegenType.SERVER);
 
-        clients.sort(String.CASE_INSENSITIVE_ORDER);
-        servers.sort(String.CASE_INSENSITIVE_ORDER);
-    }
+    // generates on as many threads as processors, keeps the bundles for 30 minutes, up to 256MB, unless set otherwise
+    private static final GenerationJobs JOBS = new GenerationJobs(
+            NumberUtils.toInt(System.getenv("GENERATOR_THREADS"), Runtime.getRuntime().availableProcessors()),
+            NumberUtils.toInt(System.getenv("GENERATOR_QUEUE_SIZE"), 100),
+            NumberUtils.toLong(System.getenv("GENERATOR_BUNDLE_STORE_SIZE"), 256L * 1024 * 1024),
+            Duration.ofMinutes(NumberUtils.toLong(System.getenv("GENERATOR_BUNDLE_TTL_MINUTES"), 30)));
 
     @Autowired
     private NativeWebRequest request;
@@ -79,39 +66,50 @@ public class GenApiService implements GenApiDelegate {
 
     @Override
     public ResponseEntity<Resource> downloadFile(String fileId) {
-        Generated g = fileMap.get(fileId);
-        System.out.println("looking for fileId " + fileId);
-        System.out.println("got filename " + g.getFilename());
-
-        File file = new File(g.getFilename());
-        Path path = Paths.get(file.getAbsolutePath());
-        ByteArrayResource resource;
-        try {
-            resource = new ByteArrayResource(Files.readAllBytes(path));
-        } catch (FileNotFoundException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found", e);
-        } catch (IOException e) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "I/O error while reading file", e);
+        GenerationJobs.Job job = JOBS.get(fileId);
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found");
         }
-        try {
-            FileUtils.deleteDirectory(file.getParentFile());
-        } catch (IOException e) {
-            System.out.println("failed to delete file " + file.getAbsolutePath());
+        byte[] bundle = job.getBundle();
+        if (bundle == null) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "The job is " + job.getStatus().name().toLowerCase(Locale.ROOT));
         }
+        JOBS.remove(fileId);
         return ResponseEntity
                 .ok()
                 .contentType(MediaType.valueOf("application/zip"))
                 .header("Content-Disposition",
-                        "attachment; filename=\"" + g.getFriendlyName() + "-generated.zip\"")
+                        "attachment; filename=\"" + job.getFriendlyName() + "-generated.zip\"")
                 .header("Accept-Range", "bytes")
-                //.header("Content-Length", bytes.length)
-                .body(resource);
+                .contentLength(bundle.length)
+                .body(new ByteArrayResource(bundle));
     }
 
     @Override
     public ResponseEntity<ResponseCode> generateClient(String language, GeneratorInput generatorInput) {
-        String filename = Generator.generateClient(language, generatorInput);
-        return getResponse(filename, language + "-client");
+        GenerationJobs.Job job = submit(language + "-client", () -> Generator.generateClient(language, generatorInput));
+        return getResponse(await(job));
+    }
+
+    @Override
+    public ResponseEntity<JobStatus> submitClientJob(String language, GeneratorInput generatorInput) {
+        GenerationJobs.Job job = submit(language + "-client", () -> Generator.generateClient(language, generatorInput));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(getStatus(job));
+    }
+
+    @Override
+    public ResponseEntity<JobStatus> submitServerJob(String framework, GeneratorInput generatorInput) {
+        GenerationJobs.Job job = submit(framework + "-server", () -> Generator.generateServer(framework, generatorInput));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(getStatus(job));
+    }
+
+    @Override
+    public ResponseEntity<JobStatus> getJob(String code) {
+        GenerationJobs.Job job = JOBS.get(code);
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Job not found");
+        }
+        return ResponseEntity.ok().body(getStatus(job));
     }
 
     @Override
@@ -151,34 +149,61 @@ public class GenApiService implements GenApiDelegate {
         if (framework == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Framework is required");
         }
-        String filename = Generator.generateServer(framework, generatorInput);
-        System.out.println("generated name: " + filename);
+        GenerationJobs.Job job = submit(framework + "-server", () -> Generator.generateServer(framework, generatorInput));
+        return getResponse(await(job));
+    }
+
+    private static List<String> getSortedNames(CodegenType... types) {
+        List<String> names = CodegenConfigLoader.getNames(types);
+        names.sort(String.CASE_INSENSITIVE_ORDER);
+        return names;
+    }
 
-        return getResponse(filename, framework + "-server");
+    private static GenerationJobs.Job submit(String friendlyName, Supplier<byte[]> generation) {
+        try {
+            return JOBS.submit(friendlyName, generation);
+        } catch (RejectedExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many generations are waiting already, please try again later");
+        }
     }
 
-    private ResponseEntity<ResponseCode> getResponse(String filename, String friendlyName) {
+    private static String await(GenerationJobs.Job job) {
+        try {
+            job.await();
+            if (JOBS.get(job.getId()) == null) {
+                // evicted to make room for the bundles of other jobs before it could be downloaded
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many bundles are waiting to be downloaded, please try again later");
+            }
+            return job.getId();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            JOBS.remove(job.getId());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Interrupted while generating", e);
+        } catch (RuntimeException e) {
+            JOBS.remove(job.getId());
+            throw e;
+        }
+    }
+
+    private JobStatus getStatus(GenerationJobs.Job job) {
+        String path = job.getStatus() == GenerationJobs.Status.DONE ? "/api/gen/download/" : "/api/gen/jobs/";
+        String link = getUriBuilder().path(path).path(job.getId()).toUriString();
+        return new JobStatus(job.getId(), job.getStatus().name().toLowerCase(Locale.ROOT), job.getError(), link);
+    }
+
+    private UriComponentsBuilder getUriBuilder() {
         String host = System.getenv("GENERATOR_HOST");
 
-        UriComponentsBuilder uriBuilder;
         if (!StringUtils.isBlank(host)) {
-            uriBuilder = UriComponentsBuilder.fromUriString(host);
+            return UriComponentsBuilder.fromUriString(host);
         } else {
-            uriBuilder = ServletUriComponentsBuilder.fromCurrentContextPath();
+            return ServletUriComponentsBuilder.fromCurrentContextPath();
         }
+    }
 
-        if (filename != null) {
-            String code = UUID.randomUUID().toString();
-            Generated g = new Generated();
-            g.setFilename(filename);
-            g.setFriendlyName(friendlyName);
-            fileMap.put(code, g);
-            System.out.println(code + ", " + filename);
-            String link = uriBuilder.path("/api/gen/download/").path(code).toUriString();
-            return ResponseEntity.ok().body(new ResponseCode(code, link));
-        } else {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    private ResponseEntity<ResponseCode> getResponse(String code) {
+        String link = getUriBuilder().path("/api/gen/download/").path(code).toUriString();
+        return ResponseEntity.ok().body(new ResponseCode(code, link));
     }
 
 }
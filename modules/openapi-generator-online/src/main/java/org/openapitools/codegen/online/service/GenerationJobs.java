@@ -0,0 +1,208 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Generates bundles on a bounded pool of threads, and keeps the jobs and the bundles they generated in memory until
+ * they're downloaded or expire.
+ * <p>
+ * At most {@code threads} bundles are generated at once, and at most {@code queueSize} more wait for a thread; further
+ * jobs are rejected. Jobs are kept for a time to live after they're submitted, and the bundles are bounded by their
+ * total size, evicting the least recently used ones; a bundle larger than that size fails its job. This class is
+ * thread-safe.
+ */
+class GenerationJobs {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationJobs.class);
+
+    enum Status {
+        QUEUED, RUNNING, DONE, FAILED
+    }
+
+    private final ThreadPoolExecutor executor;
+    private final Cache<String, Job> jobs;
+    private final long maximumSize;
+
+    /**
+     * @param threads     The maximum number of bundles generated at once
+     * @param queueSize   The maximum number of jobs waiting for a thread
+     * @param maximumSize The maximum total size (in bytes) of the bundles to keep
+     * @param timeToLive  How long jobs are kept after they're submitted
+     */
+    GenerationJobs(int threads, int queueSize, long maximumSize, Duration timeToLive) {
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.MINUTES,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+            Thread thread = new Thread(runnable, "generator-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.allowCoreThreadTimeOut(true);
+        this.jobs = Caffeine.newBuilder()
+                .maximumWeight(maximumSize)
+                .<String, Job>weigher((id, job) -> job.bundle == null ? 0 : job.bundle.length)
+                .expireAfterWrite(timeToLive)
+                // evicts on the thread storing a bundle, so that a job that's been awaited is only present if its bundle is
+                .executor(Runnable::run)
+                .build();
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Submits a job generating a bundle.
+     *
+     * @param friendlyName The name of the bundle
+     * @param generation   Generates the bundle
+     * @return The job
+     * @throws RejectedExecutionException if too many jobs are waiting for a thread already
+     */
+    Job submit(String friendlyName, Supplier<byte[]> generation) {
+        Job job = new Job(UUID.randomUUID().toString(), friendlyName);
+        jobs.put(job.id, job);
+        try {
+            job.result = CompletableFuture.supplyAsync(() -> job.run(generation, maximumSize), executor)
+                    .whenComplete((bundle, e) -> {
+                        // weighs the job with its bundle, unless it's been removed already
+                        jobs.asMap().replace(job.id, job, job);
+                    });
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.id);
+            throw e;
+        }
+        return job;
+    }
+
+    /**
+     * @param id The id of a job
+     * @return The job, or null if it's unknown or has expired
+     */
+    Job get(String id) {
+        return jobs.getIfPresent(id);
+    }
+
+    /**
+     * Removes a job, along with its bundle.
+     *
+     * @param id The id of the job
+     */
+    void remove(String id) {
+        jobs.invalidate(id);
+    }
+
+    /**
+     * A job generating a bundle.
+     */
+    static final class Job {
+        private final String id;
+        private final String friendlyName;
+        private volatile Status status = Status.QUEUED;
+        private volatile byte[] bundle;
+        private volatile String error;
+        private CompletableFuture<byte[]> result;
+
+        private Job(String id, String friendlyName) {
+            this.id = id;
+            this.friendlyName = friendlyName;
+        }
+
+        private byte[] run(Supplier<byte[]> generation, long maximumSize) {
+            status = Status.RUNNING;
+            try {
+                byte[] generated = generation.get();
+                if (generated.length > maximumSize) {
+                    throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "The generated bundle is too large to be kept");
+                }
+                bundle = generated;
+                status = Status.DONE;
+                return bundle;
+            } catch (RuntimeException | Error e) {
+                error = e instanceof ResponseStatusException ? ((ResponseStatusException) e).getReason()
+                        : Objects.toString(e.getMessage(), e.getClass().getSimpleName());
+                status = Status.FAILED;
+                LOGGER.debug("job {} failed: {}", id, error);
+                throw e;
+            }
+        }
+
+        /**
+         * Waits for the job to complete.
+         *
+         * @return The bundle
+         * @throws RuntimeException     the exception the generation failed with
+         * @throws Error                the error the generation failed with
+         * @throws InterruptedException if the current thread is interrupted while waiting
+         */
+        byte[] await() throws InterruptedException {
+            try {
+                return result.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+
+        String getId() {
+            return id;
+        }
+
+        String getFriendlyName() {
+            return friendlyName;
+        }
+
+        Status getStatus() {
+            return status;
+        }
+
+        /**
+         * @return The generated bundle, or null if the job isn't done
+         */
+        byte[] getBundle() {
+            return bundle;
+        }
+
+        /**
+         * @return The reason the job failed, or null if it hasn't
+         */
+        String getError() {
+            return error;
+        }
+    }
+}
@@ -22,28 +22,43 @@ import io.swagger.parser.OpenAPIParser;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.core.models.AuthorizationValue;
 import io.swagger.v3.parser.core.models.ParseOptions;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.openapitools.codegen.CliOption;
 import org.openapitools.codegen.ClientOptInput;
 import org.openapitools.codegen.CodegenConfig;
 import org.openapitools.codegen.CodegenConfigLoader;
 import org.openapitools.codegen.DefaultGenerator;
+import org.openapitools.codegen.api.TemplatePathLocator;
+import org.openapitools.codegen.api.TemplateProcessor;
+import org.openapitools.codegen.api.TemplatingEngineAdapter;
 import org.openapitools.codegen.online.model.GeneratorInput;
+import org.openapitools.codegen.templating.TemplateManagerOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.zip.ZipOutputStream;
 
 public class Generator {
     private static Logger LOGGER = LoggerFactory.getLogger(Generator.class);
 
+    // bounded by the total length of the contents of the cached documents, 64M characters unless set otherwise
+    private static final ParsedSpecCache PARSED_SPECS = new ParsedSpecCache(
+            NumberUtils.toLong(System.getenv("GENERATOR_SPEC_CACHE_SIZE"), 64L * 1024 * 1024));
+
     public static Map<String, CliOption> getOptions(String language) {
         CodegenConfig config;
         try {
@@ -73,15 +88,21 @@ public class Generator {
         }
     }
 
-    public static String generateClient(String language, GeneratorInput opts) {
+    /**
+     * @return The generated client, as a ZIP archive
+     */
+    public static byte[] generateClient(String language, GeneratorInput opts) {
         return generate(language, opts, Type.CLIENT);
     }
 
-    public static String generateServer(String language, GeneratorInput opts) {
+    /**
+     * @return The generated server, as a ZIP archive
+     */
+    public static byte[] generateServer(String language, GeneratorInput opts) {
         return generate(language, opts, Type.SERVER);
     }
 
-    private static String generate(String language, GeneratorInput opts, Type type) {
+    private static byte[] generate(String language, GeneratorInput opts, Type type) {
         LOGGER.debug(String.format(Locale.ROOT,"generate %s for %s", type.getTypeName(), language));
         if (opts == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No options were supplied");
@@ -106,13 +127,12 @@ public class Generator {
             } else {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No OpenAPI specification was supplied");
             }
-        } else if (opts.getAuthorizationValue() != null) {
-            List<AuthorizationValue> authorizationValues = new ArrayList<>();
-            authorizationValues.add(opts.getAuthorizationValue());
-            openapi = new OpenAPIParser().readContents(node.toString(), authorizationValues, parseOptions).getOpenAPI();
-
         } else {
-            openapi = new OpenAPIParser().readContents(node.toString(), null, parseOptions).getOpenAPI();
+            String content = node.toString();
+            AuthorizationValue authorizationValue = opts.getAuthorizationValue();
+            List<AuthorizationValue> authorizationValues = authorizationValue == null ? null : Collections.singletonList(authorizationValue);
+            openapi = PARSED_SPECS.get(content, authorizationValue,
+                    () -> new OpenAPIParser().readContents(content, authorizationValues, parseOptions).getOpenAPI());
         }
         if (openapi == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The OpenAPI specification supplied was not valid");
@@ -124,8 +144,8 @@ public class Generator {
         String destPath = language + "-" + type.getTypeName();
 
         ClientOptInput clientOptInput = new ClientOptInput();
-        String outputFolder = getTmpFolder().getAbsolutePath() + File.separator + destPath;
-        String outputFilename = outputFolder + "-bundle.zip";
+        File tmpFolder = getTmpFolder();
+        String outputFolder = tmpFolder.getAbsolutePath() + File.separator + destPath;
 
         clientOptInput.openAPI(openapi);
 
@@ -155,34 +175,35 @@ public class Generator {
 
         clientOptInput.config(codegenConfig);
 
-        try {
-            List<File> files = new DefaultGenerator().opts(clientOptInput).generate();
-            if (files.size() > 0) {
-                List<File> filesToAdd = new ArrayList<>();
-                LOGGER.debug("adding to {}", outputFolder);
-                filesToAdd.add(new File(outputFolder));
-                ZipUtil zip = new ZipUtil();
-                zip.compressFiles(filesToAdd, outputFilename);
-            } else {
+        // the generated files are written straight to the bundle, the output folder only gets the files the
+        // generator writes on its own, which are added to the bundle once it's done
+        ByteArrayOutputStream bundle = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bundle)) {
+            DefaultGenerator generator = new DefaultGenerator() {
+                @Override
+                protected TemplateProcessor newTemplateProcessor(TemplateManagerOptions options, TemplatingEngineAdapter templatingEngine, TemplatePathLocator[] templateLoaders) {
+                    return new ZipTemplateManager(zip, Paths.get(outputFolder), destPath, options, templatingEngine, templateLoaders);
+                }
+            };
+            List<File> files = generator.opts(clientOptInput).generate();
+            if (files.isEmpty()) {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
                         "A target generation was attempted, but no files were created!");
             }
-            for (File file : files) {
-                try {
-                    file.delete();
-                } catch (Exception e) {
-                    LOGGER.error("unable to delete file " + file.getAbsolutePath(), e);
-                }
-            }
-            try {
-                new File(outputFolder).delete();
-            } catch (Exception e) {
-                LOGGER.error("unable to delete output folder " + outputFolder, e);
-            }
+            int written = ((ZipTemplateManager) generator.getTemplateProcessor()).addWrittenFiles();
+            LOGGER.debug("added {} generated and {} written files to the bundle of {}", files.size(), written, destPath);
+        } catch (ResponseStatusException e) {
+            throw e;
         } catch (Exception e) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unable to build target: " + e.getMessage(), e);
+        } finally {
+            try {
+                FileUtils.deleteDirectory(tmpFolder);
+            } catch (IOException e) {
+                LOGGER.error("unable to delete output folder " + tmpFolder.getAbsolutePath(), e);
+            }
         }
-        return outputFilename;
+        return bundle.toByteArray();
     }
 
     private static File getTmpFolder() {
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.AuthorizationValue;
+import org.openapitools.codegen.config.OpenAPICopier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.function.Supplier;
+
+/**
+ * A bounded cache of parsed and resolved OpenAPI documents, keyed by a hash of the document's content and of the
+ * authorization used to resolve its remote references.
+ * <p>
+ * Generating code modifies the document it's given (normalization, inline model resolution, ...), so the cache keeps
+ * a copy of the resolved document as it was parsed, and every caller gets a new copy of it, made with
+ * {@link OpenAPICopier}. Copying the resolved document skips the parser's conversion, validation and reference
+ * resolution (including fetching remote references). The cache is bounded by the total length of the contents of the
+ * documents it holds.
+ * <p>
+ * This class is thread-safe.
+ */
+class ParsedSpecCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParsedSpecCache.class);
+
+    private final Cache<String, ResolvedSpec> specs;
+
+    /**
+     * @param maximumSize The maximum total length (in characters) of the contents of the documents to keep
+     */
+    ParsedSpecCache(long maximumSize) {
+        this.specs = Caffeine.newBuilder()
+                .maximumWeight(maximumSize)
+                .<String, ResolvedSpec>weigher((key, spec) -> spec.contentLength)
+                .build();
+    }
+
+    /**
+     * Gets the parsed and resolved document of the given content, parsing it if it isn't cached.
+     *
+     * @param content            The content of the document
+     * @param authorizationValue The authorization used to resolve remote references, if any
+     * @param parser             Parses and resolves the document, returning null if it's invalid
+     * @return A parsed document for the caller's exclusive use, or null if the document is invalid
+     */
+    OpenAPI get(String content, AuthorizationValue authorizationValue, Supplier<OpenAPI> parser) {
+        String key = keyOf(content, authorizationValue);
+        ResolvedSpec cached = specs.getIfPresent(key);
+        if (cached != null) {
+            try {
+                return OpenAPICopier.copy(cached.openAPI);
+            } catch (IllegalStateException e) {
+                LOGGER.warn("Unable to copy a cached OpenAPI document, parsing it again: {}", e.getMessage());
+                specs.invalidate(key);
+            }
+        }
+
+        OpenAPI openAPI = parser.get();
+        if (openAPI != null) {
+            try {
+                specs.put(key, new ResolvedSpec(OpenAPICopier.copy(openAPI), content.length()));
+            } catch (IllegalStateException e) {
+                LOGGER.warn("Unable to cache the OpenAPI document: {}", e.getMessage());
+            }
+        }
+        return openAPI;
+    }
+
+    /**
+     * @return The approximate number of cached documents
+     */
+    long size() {
+        return specs.estimatedSize();
+    }
+
+    private static String keyOf(String content, AuthorizationValue authorizationValue) {
+        StringBuilder key = new StringBuilder(content);
+        if (authorizationValue != null) {
+            key.append('\u0000').append(authorizationValue.getType())
+                    .append('\u0000').append(authorizationValue.getKeyName())
+                    .append('\u0000').append(authorizationValue.getValue());
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.toString().getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * A resolved document, as it was parsed.
+     */
+    private static final class ResolvedSpec {
+        final OpenAPI openAPI;
+        final int contentLength;
+
+        ResolvedSpec(OpenAPI openAPI, int contentLength) {
+            this.openAPI = openAPI;
+            this.contentLength = contentLength;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.service;
+
+import org.openapitools.codegen.TemplateManager;
+import org.openapitools.codegen.api.TemplatePathLocator;
+import org.openapitools.codegen.api.TemplatingEngineAdapter;
+import org.openapitools.codegen.templating.TemplateManagerOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * A template manager writing the generated files to a ZIP stream instead of the output directory, under a root folder.
+ * The files some generators write to the output directory directly are added afterwards, see {@link #addWrittenFiles()}.
+ * <p>
+ * The returned files don't exist. A file generated twice is only written the first time, since a ZIP entry can't be
+ * replaced once written. This class is thread-safe.
+ */
+class ZipTemplateManager extends TemplateManager {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ZipTemplateManager.class);
+
+    private final ZipOutputStream zip;
+    private final Path outputDir;
+    private final String rootFolder;
+    private final Set<String> entries = new HashSet<>();
+
+    /**
+     * @param zip        The stream to write the generated files to
+     * @param outputDir  The output directory of the generator, which the paths of the entries are relative to
+     * @param rootFolder The folder of the entries in the ZIP stream
+     */
+    ZipTemplateManager(ZipOutputStream zip, Path outputDir, String rootFolder, TemplateManagerOptions options,
+                       TemplatingEngineAdapter engineAdapter, TemplatePathLocator[] templateLoaders) {
+        super(options, engineAdapter, templateLoaders);
+        this.zip = zip;
+        this.outputDir = outputDir.toAbsolutePath().normalize();
+        this.rootFolder = rootFolder;
+    }
+
+    @Override
+    public File writeToFile(String filename, byte[] contents) throws IOException {
+        Path path = Paths.get(filename).toAbsolutePath().normalize();
+        if (!path.startsWith(outputDir)) {
+            throw new IOException("File " + filename + " is not in the output directory " + outputDir);
+        }
+        if (!addEntry(path, contents)) {
+            LOGGER.warn("File {} was already generated, keeping the first one", path);
+        }
+        return path.toFile();
+    }
+
+    /**
+     * Adds the files the generator wrote to the output directory on its own, rather than through this template
+     * manager, e.g. the document written by the openapi generator.
+     *
+     * @return The number of files added
+     * @throws IOException if the output directory can't be read
+     */
+    int addWrittenFiles() throws IOException {
+        if (!Files.isDirectory(outputDir)) {
+            return 0;
+        }
+        List<Path> written;
+        try (Stream<Path> paths = Files.walk(outputDir)) {
+            written = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+        int added = 0;
+        for (Path path : written) {
+            if (addEntry(path.toAbsolutePath().normalize(), Files.readAllBytes(path))) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    private boolean addEntry(Path path, byte[] contents) throws IOException {
+        String entry = rootFolder + "/" + outputDir.relativize(path).toString().replace(File.separatorChar, '/');
+        synchronized (zip) {
+            if (!entries.add(entry)) {
+                return false;
+            }
+            zip.putNextEntry(new ZipEntry(entry));
+            zip.write(contents);
+            zip.closeEntry();
+            return true;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.openapitools.codegen.online.api;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.openapitools.codegen.online.model.JobStatus;
 import org.openapitools.codegen.online.model.ResponseCode;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -12,9 +13,17 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.util.Assert;
 
+import java.io.ByteArrayInputStream;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.text.MatchesPattern.matchesPattern;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -24,6 +33,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 public class GenApiControllerTest {
 
     private static final String OPENAPI_URL = "https://raw.githubusercontent.com/OpenAPITools/openapi-generator/v4.3.1/modules/openapi-generator/src/test/resources/petstore.json";
+    private static final String SPEC = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"ping\",\"version\":\"1\"},"
+            + "\"paths\":{\"/ping\":{\"get\":{\"responses\":{\"200\":{\"description\":\"OK\","
+            + "\"content\":{\"application/json\":{\"schema\":{\"$ref\":\"#/components/schemas/Pong\"}}}}}}}},"
+            + "\"components\":{\"schemas\":{\"Pong\":{\"type\":\"object\",\"properties\":{\"id\":{\"type\":\"string\"}}}}}}";
     private static final String UUID_REGEX = "[a-fA-F0-9]{8}-[a-fA-F0-9]{4}-4[a-fA-F0-9]{3}-[89aAbB][a-fA-F0-9]{3}-[a-fA-F0-9]{12}";
 
     @Autowired
@@ -104,6 +117,47 @@ public class GenApiControllerTest {
                 .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, not(0)));
     }
 
+    @Test
+    public void generateClientWithJob() throws Exception {
+        String submitted = mockMvc.perform(post("http://test.com:1234/api/gen/jobs/clients/java")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"spec\": " + SPEC + "}"))
+                .andExpect(status().isAccepted())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.code").value(matchesPattern(UUID_REGEX)))
+                .andReturn().getResponse().getContentAsString();
+
+        String code = new ObjectMapper().readValue(submitted, JobStatus.class).getCode();
+        JobStatus job;
+        long deadline = System.currentTimeMillis() + 120_000;
+        do {
+            Thread.sleep(100);
+            String polled = mockMvc.perform(get("http://test.com:1234/api/gen/jobs/" + code))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            job = new ObjectMapper().readValue(polled, JobStatus.class);
+        } while (!"done".equals(job.getStatus()) && !"failed".equals(job.getStatus()) && System.currentTimeMillis() < deadline);
+
+        assertEquals("done", job.getStatus(), job.getMessage());
+        assertEquals("http://test.com:1234/api/gen/download/" + code, job.getLink());
+
+        byte[] bundle = mockMvc.perform(get(job.getLink()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/zip"))
+                .andReturn().getResponse().getContentAsByteArray();
+        Set<String> entries = new HashSet<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(bundle))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.add(entry.getName());
+            }
+        }
+        assertTrue(entries.contains("java-client/pom.xml"), entries.toString());
+        assertTrue(entries.contains("java-client/.openapi-generator/FILES"), entries.toString());
+
+        mockMvc.perform(get("http://test.com:1234/api/gen/jobs/" + code))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     public void generateWIthForwardedHeaders() throws Exception {
         String result = mockMvc.perform(post("http://test.com:1234/api/gen/clients/java")
@@ -0,0 +1,97 @@
+package org.openapitools.codegen.online.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GenerationJobsTest {
+
+    @Test
+    public void keepsGeneratedBundles() throws InterruptedException {
+        GenerationJobs jobs = new GenerationJobs(1, 1, 1024, Duration.ofMinutes(1));
+
+        GenerationJobs.Job job = jobs.submit("java-client", () -> new byte[]{1, 2, 3});
+
+        assertArrayEquals(new byte[]{1, 2, 3}, job.await());
+        assertSame(job, jobs.get(job.getId()));
+        assertEquals(GenerationJobs.Status.DONE, job.getStatus());
+        assertEquals("java-client", job.getFriendlyName());
+
+        jobs.remove(job.getId());
+        assertNull(jobs.get(job.getId()));
+    }
+
+    @Test
+    public void recordsFailures() throws InterruptedException {
+        GenerationJobs jobs = new GenerationJobs(1, 1, 1024, Duration.ofMinutes(1));
+
+        GenerationJobs.Job job = jobs.submit("java-client", () -> {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No OpenAPI specification was supplied");
+        });
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, job::await);
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatus());
+        assertEquals(GenerationJobs.Status.FAILED, job.getStatus());
+        assertEquals("No OpenAPI specification was supplied", job.getError());
+        assertNull(job.getBundle());
+    }
+
+    @Test
+    public void recordsErrors() throws InterruptedException {
+        GenerationJobs jobs = new GenerationJobs(1, 1, 1024, Duration.ofMinutes(1));
+
+        GenerationJobs.Job job = jobs.submit("java-client", () -> {
+            throw new StackOverflowError();
+        });
+
+        assertThrows(StackOverflowError.class, job::await);
+        assertEquals(GenerationJobs.Status.FAILED, job.getStatus());
+        assertEquals("StackOverflowError", job.getError());
+        assertSame(job, jobs.get(job.getId()));
+    }
+
+    @Test
+    public void failsBundlesLargerThanTheStore() throws InterruptedException {
+        GenerationJobs jobs = new GenerationJobs(1, 1, 2, Duration.ofMinutes(1));
+
+        GenerationJobs.Job job = jobs.submit("java-client", () -> new byte[]{1, 2, 3});
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, job::await);
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, e.getStatus());
+        assertEquals(GenerationJobs.Status.FAILED, job.getStatus());
+        assertSame(job, jobs.get(job.getId()));
+    }
+
+    @Test
+    public void rejectsJobsBeyondTheQueue() throws InterruptedException {
+        GenerationJobs jobs = new GenerationJobs(1, 1, 1024, Duration.ofMinutes(1));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        GenerationJobs.Job running = jobs.submit("running", () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new byte[0];
+        });
+        started.await();
+        GenerationJobs.Job queued = jobs.submit("queued", () -> new byte[0]);
+
+        assertEquals(GenerationJobs.Status.RUNNING, running.getStatus());
+        assertEquals(GenerationJobs.Status.QUEUED, queued.getStatus());
+        assertThrows(RejectedExecutionException.class, () -> jobs.submit("rejected", () -> new byte[0]));
+
+        release.countDown();
+        queued.await();
+        assertEquals(GenerationJobs.Status.DONE, queued.getStatus());
+    }
+}
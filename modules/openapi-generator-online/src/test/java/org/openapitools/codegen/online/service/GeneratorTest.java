@@ -0,0 +1,42 @@
+package org.openapitools.codegen.online.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.openapitools.codegen.online.model.GeneratorInput;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GeneratorTest {
+
+    private static final String SPEC = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"ping\",\"version\":\"1\"},"
+            + "\"paths\":{\"/ping\":{\"get\":{\"operationId\":\"ping\",\"responses\":{\"200\":{\"description\":\"OK\"}}}}}}";
+
+    @Test
+    public void bundlesFilesWrittenByTheGenerator() throws IOException {
+        GeneratorInput input = new GeneratorInput();
+        input.setSpec(new ObjectMapper().readTree(SPEC));
+
+        Set<String> entries = entries(Generator.generateClient("openapi", input));
+
+        // written by the generator itself rather than rendered from a template
+        assertTrue(entries.contains("openapi-client/openapi.json"), entries.toString());
+        assertTrue(entries.contains("openapi-client/README.md"), entries.toString());
+    }
+
+    private static Set<String> entries(byte[] bundle) throws IOException {
+        Set<String> entries = new HashSet<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(bundle))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                assertTrue(entries.add(entry.getName()), "duplicate entry " + entry.getName());
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,101 @@
+package org.openapitools.codegen.online.service;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.parser.core.models.AuthorizationValue;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParsedSpecCacheTest {
+
+    private static final String SPEC = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"ping\",\"version\":\"1\"},"
+            + "\"paths\":{\"/ping\":{\"get\":{\"responses\":{\"200\":{\"description\":\"OK\","
+            + "\"content\":{\"application/json\":{\"schema\":{\"$ref\":\"#/components/schemas/Pong\"}}}}}}}},"
+            + "\"components\":{\"schemas\":{\"Pong\":{\"type\":\"object\",\"properties\":{\"id\":{\"type\":\"string\"}}}}}}";
+
+    @Test
+    public void parsesIdenticalContentOnce() {
+        ParsedSpecCache cache = new ParsedSpecCache(1024 * 1024);
+        AtomicInteger parsed = new AtomicInteger();
+        Supplier<OpenAPI> parser = () -> {
+            parsed.incrementAndGet();
+            return parse(SPEC);
+        };
+
+        OpenAPI first = cache.get(SPEC, null, parser);
+        OpenAPI second = cache.get(SPEC, null, parser);
+
+        assertEquals(1, parsed.get());
+        assertNotSame(first, second);
+        assertEquals(Json.pretty(parse(SPEC)), Json.pretty(second));
+    }
+
+    @Test
+    public void returnsCopiesOfTheCachedDocument() {
+        ParsedSpecCache cache = new ParsedSpecCache(1024 * 1024);
+        cache.get(SPEC, null, () -> parse(SPEC));
+
+        OpenAPI copy = cache.get(SPEC, null, () -> fail("should not parse again"));
+        copy.getComponents().getSchemas().clear();
+
+        assertEquals(1, cache.get(SPEC, null, () -> fail("should not parse again")).getComponents().getSchemas().size());
+    }
+
+    @Test
+    public void returnsTheDocumentAsParsed() {
+        // a schema with properties but no type, and a default value which isn't a string
+        String spec = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"untyped\",\"version\":\"1\"},\"paths\":{},"
+                + "\"components\":{\"schemas\":{\"Untyped\":{\"properties\":{"
+                + "\"count\":{\"type\":\"integer\",\"default\":1}}}}}}";
+        ParsedSpecCache cache = new ParsedSpecCache(1024 * 1024);
+        cache.get(spec, null, () -> parse(spec));
+
+        Schema<?> parsed = parse(spec).getComponents().getSchemas().get("Untyped");
+        Schema<?> cached = cache.get(spec, null, () -> fail("should not parse again")).getComponents().getSchemas().get("Untyped");
+
+        assertSame(parsed.getClass(), cached.getClass());
+        assertNull(cached.getType());
+        Object parsedDefault = ((Schema<?>) parsed.getProperties().get("count")).getDefault();
+        Object cachedDefault = ((Schema<?>) cached.getProperties().get("count")).getDefault();
+        assertEquals(parsedDefault, cachedDefault);
+        assertSame(parsedDefault.getClass(), cachedDefault.getClass());
+        assertEquals(Json.pretty(parsed), Json.pretty(cached));
+    }
+
+    @Test
+    public void separatesDocumentsByAuthorization() {
+        ParsedSpecCache cache = new ParsedSpecCache(1024 * 1024);
+        AtomicInteger parsed = new AtomicInteger();
+        Supplier<OpenAPI> parser = () -> {
+            parsed.incrementAndGet();
+            return parse(SPEC);
+        };
+
+        cache.get(SPEC, null, parser);
+        cache.get(SPEC, new AuthorizationValue("Authorization", "Bearer a", "header"), parser);
+        cache.get(SPEC, new AuthorizationValue("Authorization", "Bearer b", "header"), parser);
+
+        assertEquals(3, parsed.get());
+    }
+
+    @Test
+    public void doesNotCacheInvalidDocuments() {
+        ParsedSpecCache cache = new ParsedSpecCache(1024 * 1024);
+
+        assertNull(cache.get("not a spec", null, () -> null));
+        assertEquals(0, cache.size());
+    }
+
+    private static OpenAPI parse(String content) {
+        ParseOptions parseOptions = new ParseOptions();
+        parseOptions.setResolve(true);
+        return new OpenAPIParser().readContents(content, null, parseOptions).getOpenAPI();
+    }
+}
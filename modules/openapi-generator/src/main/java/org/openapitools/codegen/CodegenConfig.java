@@ -27,6 +27,7 @@ import io.swagger.v3.oas.models.servers.ServerVariable;
 import org.openapitools.codegen.api.TemplatingEngineAdapter;
 import org.openapitools.codegen.meta.FeatureSet;
 import org.openapitools.codegen.meta.GeneratorMetadata;
+import org.openapitools.codegen.model.ModelIndex;
 import org.openapitools.codegen.model.ModelMap;
 import org.openapitools.codegen.model.ModelsMap;
 import org.openapitools.codegen.model.OperationsMap;
@@ -222,6 +223,15 @@ public interface CodegenConfig {
 
     WebhooksMap postProcessWebhooksWithModels(WebhooksMap objs, List<ModelMap> allModels);
 
+    /**
+     * Get the index of all the models of the current run, set once they have been processed.
+     *
+     * @return the model index, empty until the models have been processed
+     */
+    ModelIndex getModelIndex();
+
+    void setModelIndex(ModelIndex modelIndex);
+
     Map<String, Object> postProcessSupportingFileData(Map<String, Object> objs);
 
     void postProcessModelProperty(CodegenModel model, CodegenProperty property);
@@ -313,6 +323,12 @@ public interface CodegenConfig {
 
     void postProcessFile(File file, String fileType);
 
+    /**
+     * Waits for the post-processing of the files passed to {@link #postProcessFile(File, String)} to complete,
+     * in case external post-processors are run in batches.
+     */
+    void awaitPostProcessFiles();
+
     boolean isEnablePostProcessFile();
 
     void setEnablePostProcessFile(boolean isEnablePostProcessFile);
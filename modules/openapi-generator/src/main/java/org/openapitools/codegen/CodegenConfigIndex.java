@@ -0,0 +1,143 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.ServiceLoader;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * The names and types of the generators registered as services, by the name of their class, so that a generator can be
+ * found by name, and the generators listed by type, without instantiating the others.
+ * <p>
+ * The index is a properties resource ({@link #RESOURCE}) written when the generators are built, by running this class
+ * with the path of the resource to write. Each entry maps the name of a class to the name of the generator and its
+ * type, separated by a comma. Jars of custom generators may ship their own, which may omit the type; generators missing
+ * from the index, or whose index is stale, are still found by {@link CodegenConfigLoader}, which instantiates them to
+ * get their names.
+ */
+public final class CodegenConfigIndex {
+    /**
+     * The location of the index in the class path.
+     */
+    public static final String RESOURCE = "META-INF/openapi-generator/generator-names.properties";
+
+    private CodegenConfigIndex() {
+    }
+
+    /**
+     * Reads all the indexes visible to a class loader.
+     *
+     * @param classLoader The class loader of the generators
+     * @return The entries of the generators, by the name of their class
+     */
+    static Map<String, Entry> read(ClassLoader classLoader) {
+        Map<String, Entry> entries = new HashMap<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(RESOURCE);
+            while (resources.hasMoreElements()) {
+                Properties index = new Properties();
+                try (InputStream in = resources.nextElement().openStream()) {
+                    index.load(in);
+                }
+                index.forEach((className, value) -> entries.putIfAbsent((String) className, Entry.parse((String) value)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read the generator index", e);
+        }
+        return entries;
+    }
+
+    /**
+     * @param generators The generators to index
+     * @return The index of the generators, sorted by class name
+     */
+    static String format(List<CodegenConfig> generators) {
+        Map<String, Entry> entries = new TreeMap<>();
+        for (CodegenConfig generator : generators) {
+            entries.put(generator.getClass().getName(), Entry.of(generator));
+        }
+        StringBuilder sb = new StringBuilder();
+        entries.forEach((className, entry) -> sb.append(className).append('=').append(entry.name).append(',')
+                .append(entry.type == null ? "" : entry.type.name()).append('\n'));
+        return sb.toString();
+    }
+
+    /**
+     * Writes the index of the generators registered as services.
+     *
+     * @param args The path of the index to write
+     * @throws IOException if the index can't be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: CodegenConfigIndex <path of the index>");
+        }
+        List<CodegenConfig> generators = ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader())
+                .stream()
+                .map(ServiceLoader.Provider::get)
+                .collect(Collectors.toList());
+        Path index = Paths.get(args[0]);
+        if (index.getParent() != null) {
+            Files.createDirectories(index.getParent());
+        }
+        Files.write(index, format(generators).getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * The name and type of a generator.
+     */
+    static final class Entry {
+        final String name;
+        // null if the generator has no type, or if the index doesn't tell
+        final CodegenType type;
+        // false if the index doesn't tell the type of the generator
+        final boolean typed;
+
+        private Entry(String name, CodegenType type, boolean typed) {
+            this.name = name;
+            this.type = type;
+            this.typed = typed;
+        }
+
+        static Entry of(CodegenConfig generator) {
+            return new Entry(generator.getName(), generator.getTag(), true);
+        }
+
+        static Entry parse(String value) {
+            int comma = value.indexOf(',');
+            if (comma < 0) {
+                return new Entry(value, null, false);
+            }
+            String type = value.substring(comma + 1);
+            return new Entry(value.substring(0, comma), type.isEmpty() ? null : CodegenType.valueOf(type), true);
+        }
+    }
+}
@@ -18,9 +18,23 @@
 package org.openapitools.codegen;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
+/**
+ * Loads the generators registered as {@link CodegenConfig} services.
+ * <p>
+ * The service providers are discovered once; a generator is found by name, and the generators are listed by type,
+ * through the {@link CodegenConfigIndex} of the class path, so that only the generator asked for is instantiated. The
+ * generators of a stale index are instantiated to get their actual names before a name is deemed unknown. Generators
+ * keep per-run state, so each call still returns new instances.
+ */
 public class CodegenConfigLoader {
     /**
      * Tries to load config class with SPI first, then with class name directly from classpath
@@ -29,32 +43,120 @@ public class CodegenConfigLoader {
      * @return config class
      */
     public static CodegenConfig forName(String name) {
-        ServiceLoader<CodegenConfig> loader = ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader());
-
-        StringBuilder availableConfigs = new StringBuilder();
-
-        for (CodegenConfig config : loader) {
-            if (config.getName().equals(name)) {
-                return config;
-            }
-
-            availableConfigs.append(config.getName()).append("\n");
+        CodegenConfig config = Registry.INSTANCE.find(name);
+        if (config != null) {
+            return config;
         }
 
         // else try to load directly
         try {
             return (CodegenConfig) Class.forName(name).getDeclaredConstructor().newInstance();
         } catch (Exception e) {
+            StringBuilder availableConfigs = new StringBuilder();
+            for (String available : Registry.INSTANCE.getNames()) {
+                availableConfigs.append(available).append("\n");
+            }
             throw new GeneratorNotFoundException("Can't load config class with name '".concat(name) + "'\nAvailable:\n" + availableConfigs, e);
         }
     }
 
     public static List<CodegenConfig> getAll() {
-        ServiceLoader<CodegenConfig> loader = ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader());
-        List<CodegenConfig> output = new ArrayList<CodegenConfig>();
-        for (CodegenConfig aLoader : loader) {
-            output.add(aLoader);
+        return Registry.INSTANCE.getAll();
+    }
+
+    /**
+     * Lists the generators of some types, without instantiating the generators found in the index of the class path.
+     *
+     * @param types The types of generators to list
+     * @return The names of the generators of the given types, in the order they're registered
+     */
+    public static List<String> getNames(CodegenType... types) {
+        Set<CodegenType> requested = EnumSet.noneOf(CodegenType.class);
+        Collections.addAll(requested, types);
+        return Registry.INSTANCE.getNames(requested);
+    }
+
+    /**
+     * The service providers of the generators, along with their names and types when known, either from the index or
+     * because they've been instantiated already.
+     */
+    static final class Registry {
+        private static final Registry INSTANCE = new Registry(CodegenConfig.class.getClassLoader());
+
+        private final List<ServiceLoader.Provider<CodegenConfig>> providers;
+        private final Map<String, CodegenConfigIndex.Entry> entries;
+        // the generators known from the index only, which may be stale
+        private final Set<String> indexed;
+
+        Registry(ClassLoader classLoader) {
+            this.providers = ServiceLoader.load(CodegenConfig.class, classLoader).stream().collect(Collectors.toList());
+            this.entries = new ConcurrentHashMap<>(CodegenConfigIndex.read(classLoader));
+            this.indexed = ConcurrentHashMap.newKeySet();
+            this.indexed.addAll(entries.keySet());
+        }
+
+        CodegenConfig find(String name) {
+            for (ServiceLoader.Provider<CodegenConfig> provider : providers) {
+                CodegenConfigIndex.Entry entry = entries.get(provider.type().getName());
+                if (entry == null || entry.name.equals(name)) {
+                    CodegenConfig config = get(provider);
+                    if (config.getName().equals(name)) {
+                        return config;
+                    }
+                }
+            }
+            // the index of a jar may be stale, e.g. if one of its generators has been renamed since it was built
+            for (ServiceLoader.Provider<CodegenConfig> provider : providers) {
+                if (indexed.contains(provider.type().getName())) {
+                    CodegenConfig config = get(provider);
+                    if (config.getName().equals(name)) {
+                        return config;
+                    }
+                }
+            }
+            return null;
+        }
+
+        List<String> getNames() {
+            List<String> output = new ArrayList<>(providers.size());
+            for (ServiceLoader.Provider<CodegenConfig> provider : providers) {
+                CodegenConfigIndex.Entry entry = entries.get(provider.type().getName());
+                output.add(entry == null ? get(provider).getName() : entry.name);
+            }
+            return output;
+        }
+
+        List<String> getNames(Set<CodegenType> types) {
+            List<String> output = new ArrayList<>();
+            for (ServiceLoader.Provider<CodegenConfig> provider : providers) {
+                CodegenConfigIndex.Entry entry = entries.get(provider.type().getName());
+                if (entry == null || !entry.typed) {
+                    get(provider);
+                    entry = entries.get(provider.type().getName());
+                }
+                if (entry.type != null && types.contains(entry.type)) {
+                    output.add(entry.name);
+                }
+            }
+            return output;
+        }
+
+        List<CodegenConfig> getAll() {
+            List<CodegenConfig> output = new ArrayList<>(providers.size());
+            for (ServiceLoader.Provider<CodegenConfig> provider : providers) {
+                output.add(get(provider));
+            }
+            return output;
+        }
+
+        /**
+         * Instantiates a generator, recording its name and type.
+         */
+        private CodegenConfig get(ServiceLoader.Provider<CodegenConfig> provider) {
+            CodegenConfig config = provider.get();
+            entries.put(provider.type().getName(), CodegenConfigIndex.Entry.of(config));
+            indexed.remove(provider.type().getName());
+            return config;
         }
-        return output;
     }
 }
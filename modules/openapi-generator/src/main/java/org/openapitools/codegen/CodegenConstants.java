@@ -34,6 +34,24 @@ public class CodegenConstants {
     public static final String API_DOCS = "apiDocs";
 
     public static final String SKIP_FORM_MODEL = "skipFormModel";
+
+    // when set to true, compiled templates are kept in a JVM-wide cache shared by all generation runs (e.g. of the build plugins or the online service)
+    public static final String SHARED_TEMPLATE_CACHE = "sharedTemplateCache";
+
+    // number of threads rendering model and API files once all of them have been processed (1, the default, renders serially)
+    public static final String RENDERING_THREADS = "renderingThreads";
+
+    // when set to true, files whose template and template data haven't changed since the previous run aren't rendered again, and files no longer generated are deleted
+    public static final String INCREMENTAL_GENERATION = "incrementalGeneration";
+
+    // number of files passed to one invocation of an external post-processor (1, the default, invokes it once per file)
+    public static final String POST_PROCESS_BATCH_SIZE = "postProcessBatchSize";
+
+    // maximum length of a post-processor command line including the files of a batch
+    public static final String POST_PROCESS_MAX_COMMAND_LENGTH = "postProcessMaxCommandLength";
+
+    // number of post-processor batches run at the same time
+    public static final String POST_PROCESS_THREADS = "postProcessThreads";
     /* /end System Properties */
 
     public static final String API_NAME = "apiName";
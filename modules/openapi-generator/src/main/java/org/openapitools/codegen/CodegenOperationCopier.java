@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import org.openapitools.codegen.utils.ObjectGraphCopier;
+
+import java.util.Set;
+
+/**
+ * Copies a {@link CodegenOperation} so that the copy can be grouped and post-processed independently of the original,
+ * as if {@link CodegenConfig#fromOperation} had been called again.
+ * <p>
+ * The objects created for each conversion of an operation (the operation itself, its parameters, responses,
+ * callbacks, servers and security methods) are copied field by field, along with the lists, sets and maps they hold,
+ * keeping objects shared within the operation shared within the copy. Everything else is shared with the original, in
+ * particular the {@link CodegenProperty} instances, which the generators already cache and share between conversions,
+ * and the media types, which aren't modified after they're created.
+ */
+final class CodegenOperationCopier {
+    private static final Set<Class<?>> COPIED_TYPES = Set.of(
+            CodegenOperation.class, CodegenParameter.class, CodegenResponse.class, CodegenCallback.class,
+            CodegenCallback.Url.class, CodegenSecurity.class, CodegenServer.class, CodegenServerVariable.class);
+
+    private CodegenOperationCopier() {
+    }
+
+    /**
+     * @param operation The operation to copy
+     * @return A copy of the operation
+     * @throws IllegalStateException if the operation can't be copied, e.g. because a generator returns a subclass
+     *                               without a no-argument constructor
+     */
+    static CodegenOperation copy(CodegenOperation operation) {
+        return new ObjectGraphCopier(CodegenOperationCopier::isCopied).copy(operation);
+    }
+
+    private static boolean isCopied(Class<?> type) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            if (COPIED_TYPES.contains(c)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
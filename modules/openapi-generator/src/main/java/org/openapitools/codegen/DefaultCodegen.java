@@ -17,9 +17,6 @@
 
 package org.openapitools.codegen;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.Ticker;
 import com.google.common.base.CaseFormat;
 import com.google.common.collect.ImmutableMap;
 import com.samskivert.mustache.Mustache;
@@ -45,11 +42,13 @@ import io.swagger.v3.parser.util.SchemaTypeUtil;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.text.StringEscapeUtils;
 import org.openapitools.codegen.CodegenDiscriminator.MappedModel;
 import org.openapitools.codegen.api.TemplatingEngineAdapter;
 import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.examples.ExampleCache;
 import org.openapitools.codegen.examples.ExampleGenerator;
 import org.openapitools.codegen.languages.PhpNextgenClientCodegen;
 import org.openapitools.codegen.languages.RustAxumServerCodegen;
@@ -58,6 +57,7 @@ import org.openapitools.codegen.meta.FeatureSet;
 import org.openapitools.codegen.meta.GeneratorMetadata;
 import org.openapitools.codegen.meta.Stability;
 import org.openapitools.codegen.meta.features.*;
+import org.openapitools.codegen.model.ModelIndex;
 import org.openapitools.codegen.model.ModelMap;
 import org.openapitools.codegen.model.ModelsMap;
 import org.openapitools.codegen.model.OperationsMap;
@@ -66,7 +66,9 @@ import org.openapitools.codegen.serializer.SerializerUtils;
 import org.openapitools.codegen.templating.MustacheEngineAdapter;
 import org.openapitools.codegen.templating.mustache.*;
 import org.openapitools.codegen.utils.ModelUtils;
+import org.openapitools.codegen.utils.NameCache;
 import org.openapitools.codegen.utils.OneOfImplementorAdditionalData;
+import org.openapitools.codegen.utils.StronglyConnectedComponents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -78,7 +80,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentSkipListSet;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -96,9 +98,28 @@ public class DefaultCodegen implements CodegenConfig {
 
     public static FeatureSet DefaultFeatureSet;
 
-    // A cache of sanitized words. The sanitizeName() method is invoked many times with the same
-    // arguments, this cache is used to optimized performance.
-    private static final Cache<SanitizeNameOptions, String> sanitizedNameCache;
+    // The replacements applied by sanitizeName(), in order. Each is identified by its regex in the exception list.
+    private static final List<Pair<String, String>> SANITIZE_NAME_REPLACEMENTS = Arrays.asList(
+            // input[] => input
+            Pair.of("\\[\\]", ""),
+            // input[a][b] => input_a_b
+            Pair.of("\\[", "_"),
+            Pair.of("\\]", ""),
+            // input(a)(b) => input_a_b
+            Pair.of("\\(", "_"),
+            Pair.of("\\)", ""),
+            // input.name => input_name
+            Pair.of("\\.", "_"),
+            // input:name => input_name
+            Pair.of(":", "_"),
+            // input-name => input_name
+            Pair.of("-", "_"),
+            // a|b => a_b
+            Pair.of("\\|", "_"),
+            // input name and age => input_name_and_age
+            Pair.of(" ", "_"));
+    private static final Map<String, Pattern> SANITIZE_NAME_PATTERNS = new ConcurrentHashMap<>();
+    private static final Map<String, Pattern> UNICODE_SANITIZE_NAME_PATTERNS = new ConcurrentHashMap<>();
     private static final String xSchemaTestExamplesKey = "x-schema-test-examples";
     private static final String xSchemaTestExamplesRefPrefix = "#/components/x-schema-test-examples/";
     protected static Schema falseSchema;
@@ -148,13 +169,6 @@ public class DefaultCodegen implements CodegenConfig {
                 )
                 .build();
 
-        int cacheSize = Integer.parseInt(GlobalSettings.getProperty(NAME_CACHE_SIZE_PROPERTY, "500"));
-        int cacheExpiry = Integer.parseInt(GlobalSettings.getProperty(NAME_CACHE_EXPIRY_PROPERTY, "10"));
-        sanitizedNameCache = Caffeine.newBuilder()
-                .maximumSize(cacheSize)
-                .expireAfterAccess(cacheExpiry, TimeUnit.SECONDS)
-                .ticker(Ticker.systemTicker())
-                .build();
         falseSchema = new Schema();
         falseSchema.setNot(new Schema());
     }
@@ -268,6 +282,9 @@ public class DefaultCodegen implements CodegenConfig {
     protected Boolean ensureUniqueParams = true;
     @Getter @Setter
     protected Boolean allowUnicodeIdentifiers = false;
+    // A cache of sanitized words. The sanitizeName() method is invoked many times with the same
+    // arguments, this cache is used to optimized performance. It is released at the end of each generation run.
+    private final NameCache<SanitizeNameOptions> sanitizedNameCache = newNameCache("sanitizeName");
     protected String gitHost, gitUserId, gitRepoId, releaseNote;
     protected String httpUserAgent;
     protected Boolean hideGenerationTimestamp = true;
@@ -285,11 +302,16 @@ public class DefaultCodegen implements CodegenConfig {
     // flag to indicate whether to use environment variable to post process file
     protected boolean enablePostProcessFile = false;
     private TemplatingEngineAdapter templatingEngine = new MustacheEngineAdapter();
+    // files to post-process with external commands, when these are run in batches
+    private PostProcessorBatches postProcessorBatches;
     // flag to indicate whether to use the utils.OneOfImplementorAdditionalData related logic
     protected boolean useOneOfInterfaces = false;
     // whether or not the oneOf imports machinery should add oneOf interfaces as imports in implementing classes
     protected boolean addOneOfInterfaceImports = false;
     protected List<CodegenModel> addOneOfInterfaces = new ArrayList<>();
+    // the strongly connected components of the model dependencies (through allVars), set by setCircularReferences
+    @Getter
+    protected StronglyConnectedComponents modelDependencyComponents;
 
     // flag to indicate whether to only update files whose contents have changed
     protected boolean enableMinimalUpdate = false;
@@ -314,12 +336,19 @@ public class DefaultCodegen implements CodegenConfig {
     // make openapi available to all methods
     protected OpenAPI openAPI;
 
+    // the index of all the models of the run, set by the generator once they have been processed
+    @Getter @Setter
+    protected ModelIndex modelIndex = ModelIndex.EMPTY;
+
     // A cache to efficiently lookup a Schema instance based on the return value of `toModelName()`.
     private Map<String, Schema> modelNameToSchemaCache;
 
     // A cache to efficiently lookup schema `toModelName()` based on the schema Key
     private final Map<String, String> schemaKeyToModelNameCache = new HashMap<>();
 
+    // The examples of the models rendered for the operations, reused by the operations using the same models
+    private final ExampleCache exampleCache = new ExampleCache();
+
     protected boolean loadDeepObjectIntoItems = true;
 
     // if true then baseTypes will be imported
@@ -697,18 +726,28 @@ public class DefaultCodegen implements CodegenConfig {
         }
     }
 
+    /**
+     * Marks the properties which (directly or indirectly) refer back to the model declaring them as circular references.
+     * <p>
+     * A property of a model is circular when its type can reach the model in the graph of model dependencies,
+     * i.e. when the property refers to the model itself or to a model in the same strongly connected component.
+     * The components are computed once per dependency graph (of allVars, vars and oneOf), and those of allVars
+     * are made available by {@link #getModelDependencyComponents()}.
+     *
+     * @param models all the models, by name
+     */
     public void setCircularReferences(Map<String, CodegenModel> models) {
         // for allVars
         final Map<String, List<CodegenProperty>> allVarsDependencyMap = models.entrySet().stream()
                 .collect(Collectors.toMap(Entry::getKey, entry -> getModelDependencies(entry.getValue().getAllVars())));
 
-        models.keySet().forEach(name -> setCircularReferencesOnProperties(name, allVarsDependencyMap));
+        modelDependencyComponents = setCircularReferencesOnProperties(allVarsDependencyMap);
 
         // for vars
         final Map<String, List<CodegenProperty>> varsDependencyMap = models.entrySet().stream()
                 .collect(Collectors.toMap(Entry::getKey, entry -> getModelDependencies(entry.getValue().getVars())));
 
-        models.keySet().forEach(name -> setCircularReferencesOnProperties(name, varsDependencyMap));
+        setCircularReferencesOnProperties(varsDependencyMap);
 
         // for oneOf
         final Map<String, List<CodegenProperty>> oneOfDependencyMap = models.entrySet().stream()
@@ -716,7 +755,7 @@ public class DefaultCodegen implements CodegenConfig {
                         (entry.getValue().getComposedSchemas() != null && entry.getValue().getComposedSchemas().getOneOf() != null)
                                 ? entry.getValue().getComposedSchemas().getOneOf() : new ArrayList<CodegenProperty>())));
 
-        models.keySet().forEach(name -> setCircularReferencesOnProperties(name, oneOfDependencyMap));
+        setCircularReferencesOnProperties(oneOfDependencyMap);
     }
 
     private List<CodegenProperty> getModelDependencies(List<CodegenProperty> vars) {
@@ -731,35 +770,26 @@ public class DefaultCodegen implements CodegenConfig {
                 .collect(Collectors.toList());
     }
 
-    private void setCircularReferencesOnProperties(final String root,
-                                                   final Map<String, List<CodegenProperty>> dependencyMap) {
-        dependencyMap.getOrDefault(root, new ArrayList<>())
-                .forEach(prop -> {
-                    final List<String> unvisited =
-                            Collections.singletonList(prop.isContainer ? prop.items.dataType : prop.dataType);
-                    prop.isCircularReference = isCircularReference(root,
-                            new HashSet<>(),
-                            new ArrayList<>(unvisited),
-                            dependencyMap);
-                });
-    }
-
-    private boolean isCircularReference(final String root,
-                                        final Set<String> visited,
-                                        final List<String> unvisited,
-                                        final Map<String, List<CodegenProperty>> dependencyMap) {
-        for (int i = 0; i < unvisited.size(); i++) {
-            final String next = unvisited.get(i);
-            if (!visited.contains(next)) {
-                if (next.equals(root)) {
-                    return true;
-                }
-                dependencyMap.getOrDefault(next, new ArrayList<>())
-                        .forEach(prop -> unvisited.add(prop.isContainer ? prop.items.dataType : prop.dataType));
-                visited.add(next);
+    private StronglyConnectedComponents setCircularReferencesOnProperties(final Map<String, List<CodegenProperty>> dependencyMap) {
+        final Map<String, List<String>> dependencyGraph = dependencyMap.entrySet().stream()
+                .collect(Collectors.toMap(Entry::getKey, entry -> entry.getValue().stream()
+                        .map(this::getDependencyName)
+                        .collect(Collectors.toList())));
+        final StronglyConnectedComponents components = new StronglyConnectedComponents(dependencyGraph);
+
+        dependencyMap.forEach((root, properties) -> {
+            for (CodegenProperty prop : properties) {
+                // the model depends on the property's type, so the type depends back on the model
+                // exactly when both are in the same component
+                final String dependency = getDependencyName(prop);
+                prop.isCircularReference = dependency.equals(root) || components.getComponent(root).contains(dependency);
             }
-        }
-        return false;
+        });
+        return components;
+    }
+
+    private String getDependencyName(CodegenProperty prop) {
+        return prop.isContainer ? prop.items.dataType : prop.dataType;
     }
 
     // override with any special post-processing
@@ -970,6 +1000,18 @@ public class DefaultCodegen implements CodegenConfig {
         return objs;
     }
 
+    /**
+     * Get an index of the given models, for lookups in {@link #postProcessOperationsWithModels(OperationsMap, List)}.
+     * This is the index of the run when the models are those of the run, and a new index otherwise
+     * (e.g. when the method is called outside of a generator run).
+     *
+     * @param allModels all the models, as passed to the post-processing method
+     * @return an index of these models
+     */
+    protected ModelIndex getModelIndex(List<ModelMap> allModels) {
+        return modelIndex.isOf(allModels) ? modelIndex : ModelIndex.of(allModels);
+    }
+
     // override with any special post-processing
     @Override
     @SuppressWarnings("static-method")
@@ -2595,6 +2637,10 @@ public class DefaultCodegen implements CodegenConfig {
         return camelizedName;
     }
 
+    /**
+     * The key of a property in {@link #schemaCodegenPropertyCache}. Schemas are compared by identity: comparing them
+     * by value would hash and compare their whole subtree on each lookup.
+     */
     private static class NamedSchema {
         private NamedSchema(String name, Schema s, boolean required, boolean schemaIsFromAdditionalProperties) {
             this.name = name;
@@ -2613,19 +2659,35 @@ public class DefaultCodegen implements CodegenConfig {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             NamedSchema that = (NamedSchema) o;
-            return Objects.equals(required, that.required) &&
-                    Objects.equals(name, that.name) &&
-                    Objects.equals(schema, that.schema) &&
-                    Objects.equals(schemaIsFromAdditionalProperties, that.schemaIsFromAdditionalProperties);
+            return required == that.required &&
+                    schemaIsFromAdditionalProperties == that.schemaIsFromAdditionalProperties &&
+                    schema == that.schema &&
+                    Objects.equals(name, that.name);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(name, schema, required, schemaIsFromAdditionalProperties);
+            return Objects.hash(name, System.identityHashCode(schema), required, schemaIsFromAdditionalProperties);
         }
     }
 
     Map<NamedSchema, CodegenProperty> schemaCodegenPropertyCache = new HashMap<>();
+    private long propertyCacheHits;
+    private long propertyCacheMisses;
+
+    /**
+     * @return the number of calls to {@link #fromProperty(String, Schema, boolean, boolean)} answered from its cache
+     */
+    public long getPropertyCacheHits() {
+        return propertyCacheHits;
+    }
+
+    /**
+     * @return the number of calls to {@link #fromProperty(String, Schema, boolean, boolean)} which converted the schema
+     */
+    public long getPropertyCacheMisses() {
+        return propertyCacheMisses;
+    }
 
     protected void updateModelForComposedSchema(CodegenModel m, Schema schema, Map<String, Schema> allDefinitions) {
         final Schema composed = schema;
@@ -3842,7 +3904,7 @@ public class DefaultCodegen implements CodegenConfig {
      * <p>
      * The return value is cached. An internal cache is looked up to determine
      * if the CodegenProperty return value has already been instantiated for
-     * the (String name, Schema p) arguments.
+     * the (String name, Schema p) arguments, the schema being compared by identity.
      * Any subsequent processing of the CodegenModel return value must be idempotent
      * for a given (String name, Schema schema).
      *
@@ -3864,6 +3926,7 @@ public class DefaultCodegen implements CodegenConfig {
         CodegenProperty cpc = schemaCodegenPropertyCache.get(ns);
         if (cpc != null) {
             LOGGER.debug("Cached fromProperty for {} : {} required={}", name, p.getName(), required);
+            propertyCacheHits++;
             return cpc;
         }
 
@@ -3873,6 +3936,7 @@ public class DefaultCodegen implements CodegenConfig {
             p = refToPropertiesSchema;
             return fromProperty(name, refToPropertiesSchema, required, schemaIsFromAdditionalProperties);
         }
+        propertyCacheMisses++;
 
         Schema original = null;
         // check if it's allOf (only 1 sub schema) with or without default/nullable/etc set in the top level
@@ -4563,7 +4627,7 @@ public class DefaultCodegen implements CodegenConfig {
         // check skipOperationExample, which can be set to true to avoid out of memory errors for large spec
         if (!isSkipOperationExample() && operation.getResponses() != null) {
             // generate examples
-            ExampleGenerator generator = new ExampleGenerator(schemas, this.openAPI);
+            ExampleGenerator generator = new ExampleGenerator(schemas, this.openAPI, exampleCache);
             List<Map<String, String>> examples = new ArrayList<>();
 
             for (String statusCode : operation.getResponses().keySet()) {
@@ -4655,7 +4719,7 @@ public class DefaultCodegen implements CodegenConfig {
 
                     // add example
                     if (schemas != null && !isSkipOperationExample()) {
-                        op.requestBodyExamples = new ExampleGenerator(schemas, this.openAPI).generate(null, new ArrayList<>(getConsumesInfo(this.openAPI, operation)), bodyParam.baseType);
+                        op.requestBodyExamples = new ExampleGenerator(schemas, this.openAPI, exampleCache).generate(null, new ArrayList<>(getConsumesInfo(this.openAPI, operation)), bodyParam.baseType);
                     }
                 }
             }
@@ -6484,58 +6548,41 @@ public class DefaultCodegen implements CodegenConfig {
             return "value";
         }
 
-        SanitizeNameOptions opts = new SanitizeNameOptions(name, removeCharRegEx, exceptionList);
+        SanitizeNameOptions opts = new SanitizeNameOptions(name, removeCharRegEx, exceptionList, Boolean.TRUE.equals(allowUnicodeIdentifiers));
 
         return sanitizedNameCache.get(opts, sanitizeNameOptions -> {
             String modifiable = sanitizeNameOptions.getName();
             List<String> exceptions = sanitizeNameOptions.getExceptions();
-            // input[] => input
-            modifiable = this.sanitizeValue(modifiable, "\\[\\]", "", exceptions);
-
-            // input[a][b] => input_a_b
-            modifiable = this.sanitizeValue(modifiable, "\\[", "_", exceptions);
-            modifiable = this.sanitizeValue(modifiable, "\\]", "", exceptions);
-
-            // input(a)(b) => input_a_b
-            modifiable = this.sanitizeValue(modifiable, "\\(", "_", exceptions);
-            modifiable = this.sanitizeValue(modifiable, "\\)", "", exceptions);
-
-            // input.name => input_name
-            modifiable = this.sanitizeValue(modifiable, "\\.", "_", exceptions);
-
-            // input:name => input_name
-            modifiable = this.sanitizeValue(modifiable, ":", "_", exceptions);
-
-            // input-name => input_name
-            modifiable = this.sanitizeValue(modifiable, "-", "_", exceptions);
-
-            // a|b => a_b
-            modifiable = this.sanitizeValue(modifiable, "\\|", "_", exceptions);
-
-            // input name and age => input_name_and_age
-            modifiable = this.sanitizeValue(modifiable, " ", "_", exceptions);
+            for (Pair<String, String> replacement : SANITIZE_NAME_REPLACEMENTS) {
+                if (!exceptions.contains(replacement.getLeft())) {
+                    modifiable = sanitizeNamePattern(replacement.getLeft(), false).matcher(modifiable).replaceAll(replacement.getRight());
+                }
+            }
 
             // /api/films/get => _api_films_get
             // \api\films\get => _api_films_get
-            modifiable = modifiable.replaceAll("/", "_");
-            modifiable = modifiable.replaceAll("\\\\", "_");
+            modifiable = modifiable.replace('/', '_').replace('\\', '_');
 
             // remove everything else other than word, number and _
             // $php_variable => php_variable
-            if (allowUnicodeIdentifiers) { //could be converted to a single line with ?: operator
-                modifiable = Pattern.compile(sanitizeNameOptions.getRemoveCharRegEx(), Pattern.UNICODE_CHARACTER_CLASS).matcher(modifiable).replaceAll("");
-            } else {
-                modifiable = modifiable.replaceAll(sanitizeNameOptions.getRemoveCharRegEx(), "");
-            }
-            return modifiable;
+            return sanitizeNamePattern(sanitizeNameOptions.getRemoveCharRegEx(), sanitizeNameOptions.isUnicode()).matcher(modifiable).replaceAll("");
         });
     }
 
-    private String sanitizeValue(String value, String replaceMatch, String replaceValue, List<String> exceptionList) {
-        if (exceptionList.size() == 0 || !exceptionList.contains(replaceMatch)) {
-            return value.replaceAll(replaceMatch, replaceValue);
+    private static Pattern sanitizeNamePattern(String regex, boolean unicode) {
+        if (unicode) {
+            return UNICODE_SANITIZE_NAME_PATTERNS.computeIfAbsent(regex, r -> Pattern.compile(r, Pattern.UNICODE_CHARACTER_CLASS));
         }
-        return value;
+        return SANITIZE_NAME_PATTERNS.computeIfAbsent(regex, Pattern::compile);
+    }
+
+    /**
+     * Releases the names sanitized during a generation run.
+     *
+     * @return The statistics of the cache during the run, formatted for logging
+     */
+    public String releaseSanitizedNameCache() {
+        return sanitizedNameCache.describe(sanitizedNameCache.release());
     }
 
     /**
@@ -8155,12 +8202,24 @@ public class DefaultCodegen implements CodegenConfig {
 
     /**
      * Executes an external command for file post processing.
+     * <p>
+     * When the global property {@link CodegenConstants#POST_PROCESS_BATCH_SIZE} is greater than 1, the last
+     * argument is taken to be the file to process, and the command is run later for a batch of files
+     * (see {@link #awaitPostProcessFiles()}).
      *
      * @param commandArr an array of commands and arguments. They will be concatenated with space and tokenized again.
-     * @return Whether the execution passed (true) or failed (false)
+     * @return Whether the execution passed (true) or failed (false); true if the file has been added to a batch
      */
     protected boolean executePostProcessor(String[] commandArr) {
-        final String command = String.join(" ", commandArr);
+        PostProcessorBatches batches = commandArr.length > 1 ? getPostProcessorBatches() : null;
+        if (batches != null) {
+            batches.add(String.join(" ", Arrays.copyOf(commandArr, commandArr.length - 1)), commandArr[commandArr.length - 1]);
+            return true;
+        }
+        return runPostProcessor(String.join(" ", commandArr));
+    }
+
+    private boolean runPostProcessor(String command) {
         try {
             // we don't use the array variant here, because the command passed in by the user is often not only a single binary
             // but a combination of binary + parameters, e.g. `/etc/bin prettier -w`, which would then not be found, as the
@@ -8190,6 +8249,36 @@ public class DefaultCodegen implements CodegenConfig {
         return false;
     }
 
+    /**
+     * Gets the batches of files to post-process, creating them on first use, or null if files are post-processed one by one.
+     */
+    private synchronized PostProcessorBatches getPostProcessorBatches() {
+        if (postProcessorBatches == null) {
+            int batchSize = NumberUtils.toInt(GlobalSettings.getProperty(CodegenConstants.POST_PROCESS_BATCH_SIZE), 1);
+            if (batchSize <= 1) {
+                return null;
+            }
+            int maxCommandLength = NumberUtils.toInt(GlobalSettings.getProperty(CodegenConstants.POST_PROCESS_MAX_COMMAND_LENGTH), 8000);
+            int threads = NumberUtils.toInt(GlobalSettings.getProperty(CodegenConstants.POST_PROCESS_THREADS),
+                    Runtime.getRuntime().availableProcessors());
+            LOGGER.info("Post-processing files in batches of up to {} files on {} threads", batchSize, threads);
+            postProcessorBatches = new PostProcessorBatches(batchSize, maxCommandLength, Math.max(threads, 1), this::runPostProcessor);
+        }
+        return postProcessorBatches;
+    }
+
+    @Override
+    public void awaitPostProcessFiles() {
+        PostProcessorBatches batches;
+        synchronized (this) {
+            batches = postProcessorBatches;
+            postProcessorBatches = null;
+        }
+        if (batches != null && !batches.await()) {
+            LOGGER.error("Post-processing of some of the generated files failed");
+        }
+    }
+
     /**
      * Boolean value indicating the state of the option for post-processing file using environment variables.
      *
@@ -8337,9 +8426,10 @@ public class DefaultCodegen implements CodegenConfig {
      * An map entry for cached sanitized names.
      */
     @Getter private static class SanitizeNameOptions {
-        public SanitizeNameOptions(String name, String removeCharRegEx, List<String> exceptions) {
+        public SanitizeNameOptions(String name, String removeCharRegEx, List<String> exceptions, boolean unicode) {
             this.name = name;
             this.removeCharRegEx = removeCharRegEx;
+            this.unicode = unicode;
             if (exceptions != null) {
                 this.exceptions = Collections.unmodifiableList(exceptions);
             } else {
@@ -8350,6 +8440,7 @@ public class DefaultCodegen implements CodegenConfig {
         private final String name;
         private final String removeCharRegEx;
         private final List<String> exceptions;
+        private final boolean unicode;
 
         @Override
         public boolean equals(Object o) {
@@ -8358,12 +8449,13 @@ public class DefaultCodegen implements CodegenConfig {
             SanitizeNameOptions that = (SanitizeNameOptions) o;
             return Objects.equals(getName(), that.getName()) &&
                     Objects.equals(getRemoveCharRegEx(), that.getRemoveCharRegEx()) &&
-                    Objects.equals(getExceptions(), that.getExceptions());
+                    Objects.equals(getExceptions(), that.getExceptions()) &&
+                    isUnicode() == that.isUnicode();
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(getName(), getRemoveCharRegEx(), getExceptions());
+            return Objects.hash(getName(), getRemoveCharRegEx(), getExceptions(), isUnicode());
         }
     }
 
@@ -35,6 +35,7 @@ import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.io.IOCase;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.openapitools.codegen.api.TemplateDefinition;
 import org.openapitools.codegen.api.TemplatePathLocator;
 import org.openapitools.codegen.api.TemplateProcessor;
@@ -47,6 +48,7 @@ import org.openapitools.codegen.meta.Stability;
 import org.openapitools.codegen.model.*;
 import org.openapitools.codegen.serializer.SerializerUtils;
 import org.openapitools.codegen.templating.CommonTemplateContentLocator;
+import org.openapitools.codegen.templating.CompiledTemplateCache;
 import org.openapitools.codegen.templating.GeneratorTemplateContentLocator;
 import org.openapitools.codegen.templating.MustacheEngineAdapter;
 import org.openapitools.codegen.templating.TemplateManagerOptions;
@@ -63,19 +65,30 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.apache.commons.lang3.StringUtils.removeStart;
 import static org.openapitools.codegen.utils.OnceLogger.once;
+import static org.openapitools.codegen.utils.StringUtils.installNameCaches;
+import static org.openapitools.codegen.utils.StringUtils.releaseNameCaches;
 
 @SuppressWarnings("rawtypes")
 public class DefaultGenerator implements Generator {
     private static final String METADATA_DIR = ".openapi-generator";
+    private static final String INPUTS_METADATA_FILENAME = "INPUTS";
     protected final Logger LOGGER = LoggerFactory.getLogger(DefaultGenerator.class);
     private final boolean dryRun;
     protected CodegenConfig config;
@@ -95,6 +108,7 @@ public class DefaultGenerator implements Generator {
     private String basePath;
     private String basePathWithoutHost;
     private String contextPath;
+    private Map<String, Object> sharedAdditionalProperties;
     private Map<String, String> generatorPropertyDefaults = new HashMap<>();
     /**
      *  Retrieves an instance to the configured template processor, available after user-defined options are
@@ -103,6 +117,13 @@ public class DefaultGenerator implements Generator {
     @Getter protected TemplateProcessor templateProcessor = null;
 
     private List<TemplateDefinition> userDefinedTemplates = new ArrayList<>();
+    private ExecutorService renderingExecutor = null;
+    private Map<String, Object> authenticationSwitches = null;
+    private final Map<List<SecurityRequirement>, List<CodegenSecurity>> operationAuthMethods = new HashMap<>();
+    private InputsManifest inputsManifest = null;
+    private TemplateDataFingerprint templateDataFingerprint = null;
+    private byte[] templatesFingerprint = null;
+    private final Set<File> unchangedFiles = ConcurrentHashMap.newKeySet();
     private String generatorCheck = "spring";
     private String templateCheck = "apiController.mustache";
 
@@ -142,7 +163,7 @@ public class DefaultGenerator implements Generator {
 
             TemplatePathLocator commonTemplateLocator = new CommonTemplateContentLocator();
             TemplatePathLocator generatorTemplateLocator = new GeneratorTemplateContentLocator(this.config);
-            this.templateProcessor = new TemplateManager(
+            this.templateProcessor = newTemplateProcessor(
                     templateManagerOptions,
                     templatingEngine,
                     new TemplatePathLocator[]{generatorTemplateLocator, commonTemplateLocator}
@@ -402,7 +423,7 @@ public class DefaultGenerator implements Generator {
                     if (written != null) {
                         files.add(written);
                         if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "model-test");
+                            postProcessFile(written, "model-test");
                         }
                     }
                 }
@@ -413,6 +434,33 @@ public class DefaultGenerator implements Generator {
         }
     }
 
+    /**
+     * Returns a read-only copy of the generator's additional properties, shared by the template contexts of the
+     * generated files instead of being copied into each of them. The copy is taken again when an additional property
+     * has been set since, so each context sees the additional properties as they were when it was created.
+     *
+     * @return The current additional properties
+     */
+    private synchronized Map<String, Object> sharedAdditionalProperties() {
+        Map<String, Object> current = config.additionalProperties();
+        if (!isSnapshotOf(sharedAdditionalProperties, current)) {
+            sharedAdditionalProperties = Collections.unmodifiableMap(new HashMap<>(current));
+        }
+        return sharedAdditionalProperties;
+    }
+
+    private static boolean isSnapshotOf(Map<String, Object> snapshot, Map<String, Object> current) {
+        if (snapshot == null || snapshot.size() != current.size()) {
+            return false;
+        }
+        for (Map.Entry<String, Object> entry : current.entrySet()) {
+            if (snapshot.get(entry.getKey()) != entry.getValue() || !snapshot.containsKey(entry.getKey())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private void generateModelDocumentation(List<File> files, Map<String, Object> models, String modelName) throws IOException {
         for (String templateName : config.modelDocTemplateFiles().keySet()) {
             String docExtension = config.getDocExtension();
@@ -423,7 +471,7 @@ public class DefaultGenerator implements Generator {
             if (written != null) {
                 files.add(written);
                 if (config.isEnablePostProcessFile() && !dryRun) {
-                    config.postProcessFile(written, "model-doc");
+                    postProcessFile(written, "model-doc");
                 }
             }
         }
@@ -443,7 +491,7 @@ public class DefaultGenerator implements Generator {
             if (written != null) {
                 files.add(written);
                 if (config.isEnablePostProcessFile() && !dryRun) {
-                    config.postProcessFile(written, "model");
+                    postProcessFile(written, "model");
                 }
             }
         }
@@ -522,7 +570,7 @@ public class DefaultGenerator implements Generator {
                 schemaMap.put(name, schema);
                 ModelsMap models = processModels(config, schemaMap);
                 models.put("classname", config.toModelName(name));
-                models.putAll(config.additionalProperties());
+                models.inherit(sharedAdditionalProperties());
                 allProcessedModels.put(name, models);
             } catch (Exception e) {
                 throw new RuntimeException("Could not process model '" + name + "'" + ".Please make sure that your schema is correct!", e);
@@ -554,6 +602,7 @@ public class DefaultGenerator implements Generator {
         }
         
         // generate files based on processed models
+        List<RenderTask> deferredRenders = new ArrayList<>();
         for (String modelName : allProcessedModels.keySet()) {
             ModelsMap models = allProcessedModels.get(modelName);
             models.put("modelPackage", config.modelPackage());
@@ -579,19 +628,21 @@ public class DefaultGenerator implements Generator {
                     allModels.add(modelTemplate);
                 }
 
-                // to generate model files
-                generateModel(files, models, modelName);
-
-                // to generate model test files
-                generateModelTests(files, models, modelName);
+                render(files, deferredRenders, new RenderTask("Could not generate model '" + modelName + "'", written -> {
+                    // to generate model files
+                    generateModel(written, models, modelName);
 
-                // to generate model documentation files
-                generateModelDocumentation(files, models, modelName);
+                    // to generate model test files
+                    generateModelTests(written, models, modelName);
 
+                    // to generate model documentation files
+                    generateModelDocumentation(written, models, modelName);
+                }));
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate model '" + modelName + "'", e);
             }
         }
+        renderDeferred(files, deferredRenders);
         if (GlobalSettings.getProperty("debugModels") != null) {
             LOGGER.info("############ Model info ############");
             Json.prettyPrint(allModels);
@@ -685,6 +736,7 @@ public class DefaultGenerator implements Generator {
             }
             paths = updatedPaths;
         }
+        List<RenderTask> deferredRenders = new ArrayList<>();
         for (String tag : paths.keySet()) {
             try {
                 List<CodegenOperation> ops = paths.get(tag);
@@ -714,7 +766,7 @@ public class DefaultGenerator implements Generator {
                 Optional.ofNullable(config.additionalProperties().get("appVersion")).ifPresent(version -> operation.put("version", version));
                 operation.put("apiPackage", config.apiPackage());
                 operation.put("modelPackage", config.modelPackage());
-                operation.putAll(config.additionalProperties());
+                operation.inherit(sharedAdditionalProperties());
                 operation.put("classname", config.toApiName(tag));
                 operation.put("classVarName", config.toApiVarName(tag));
                 operation.put("importPath", config.toApiImport(tag));
@@ -762,67 +814,69 @@ public class DefaultGenerator implements Generator {
 
                 addAuthenticationSwitches(operation);
 
-                for (String templateName : config.apiTemplateFiles().keySet()) {
-                    File written = null;
-                    if (config.templateOutputDirs().containsKey(templateName)) {
-                        String outputDir = config.getOutputDir() + File.separator + config.templateOutputDirs().get(templateName);
-                        String filename = config.apiFilename(templateName, tag, outputDir);
-                        // do not overwrite apiController file for spring server
-                        if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
-                            written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS, outputDir);
+                render(files, deferredRenders, new RenderTask("Could not generate api file for '" + tag + "'", apiFiles -> {
+                    for (String templateName : config.apiTemplateFiles().keySet()) {
+                        File written = null;
+                        if (config.templateOutputDirs().containsKey(templateName)) {
+                            String outputDir = config.getOutputDir() + File.separator + config.templateOutputDirs().get(templateName);
+                            String filename = config.apiFilename(templateName, tag, outputDir);
+                            // do not overwrite apiController file for spring server
+                            if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
+                                written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS, outputDir);
+                            } else {
+                                LOGGER.info("Implementation file {} is not overwritten", filename);
+                            }
                         } else {
-                            LOGGER.info("Implementation file {} is not overwritten", filename);
+                            String filename = config.apiFilename(templateName, tag);
+                            if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
+                                written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS);
+                            } else {
+                                LOGGER.info("Implementation file {} is not overwritten", filename);
+                            }
                         }
-                    } else {
-                        String filename = config.apiFilename(templateName, tag);
-                        if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
-                            written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS);
-                        } else {
-                            LOGGER.info("Implementation file {} is not overwritten", filename);
+                        if (written != null) {
+                            apiFiles.add(written);
+                            if (config.isEnablePostProcessFile() && !dryRun) {
+                                postProcessFile(written, "api");
+                            }
                         }
                     }
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api");
+
+                    // to generate api test files
+                    for (String templateName : config.apiTestTemplateFiles().keySet()) {
+                        String filename = config.apiTestFilename(templateName, tag);
+                        File apiTestFile = new File(filename);
+                        // do not overwrite test file that already exists
+                        if (apiTestFile.exists()) {
+                            this.templateProcessor.skip(apiTestFile.toPath(), "Test files never overwrite an existing file of the same name.");
+                        } else {
+                            File written = processTemplateToFile(operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder());
+                            if (written != null) {
+                                apiFiles.add(written);
+                                if (config.isEnablePostProcessFile() && !dryRun) {
+                                    postProcessFile(written, "api-test");
+                                }
+                            }
                         }
                     }
-                }
 
-                // to generate api test files
-                for (String templateName : config.apiTestTemplateFiles().keySet()) {
-                    String filename = config.apiTestFilename(templateName, tag);
-                    File apiTestFile = new File(filename);
-                    // do not overwrite test file that already exists
-                    if (apiTestFile.exists()) {
-                        this.templateProcessor.skip(apiTestFile.toPath(), "Test files never overwrite an existing file of the same name.");
-                    } else {
-                        File written = processTemplateToFile(operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder());
+                    // to generate api documentation files
+                    for (String templateName : config.apiDocTemplateFiles().keySet()) {
+                        String filename = config.apiDocFilename(templateName, tag);
+                        File written = processTemplateToFile(operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS);
                         if (written != null) {
-                            files.add(written);
+                            apiFiles.add(written);
                             if (config.isEnablePostProcessFile() && !dryRun) {
-                                config.postProcessFile(written, "api-test");
+                                postProcessFile(written, "api-doc");
                             }
                         }
                     }
-                }
-
-                // to generate api documentation files
-                for (String templateName : config.apiDocTemplateFiles().keySet()) {
-                    String filename = config.apiDocFilename(templateName, tag);
-                    File written = processTemplateToFile(operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS);
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api-doc");
-                        }
-                    }
-                }
-
+                }));
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
             }
         }
+        renderDeferred(files, deferredRenders);
         if (GlobalSettings.getProperty("debugOperations") != null) {
             LOGGER.info("############ Operation info ############");
             Json.prettyPrint(allOperations);
@@ -877,7 +931,7 @@ public class DefaultGenerator implements Generator {
                 Optional.ofNullable(config.additionalProperties().get("appVersion")).ifPresent(version -> operation.put("version", version));
                 operation.put("apiPackage", config.apiPackage());
                 operation.put("modelPackage", config.modelPackage());
-                operation.putAll(config.additionalProperties());
+                operation.inherit(sharedAdditionalProperties());
                 operation.put("classname", config.toApiName(tag));
                 operation.put("classVarName", config.toApiVarName(tag));
                 operation.put("importPath", config.toApiImport(tag));
@@ -947,7 +1001,7 @@ public class DefaultGenerator implements Generator {
                     if (written != null) {
                         files.add(written);
                         if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api");
+                            postProcessFile(written, "api");
                         }
                     }
                 }
@@ -964,7 +1018,7 @@ public class DefaultGenerator implements Generator {
                         if (written != null) {
                             files.add(written);
                             if (config.isEnablePostProcessFile() && !dryRun) {
-                                config.postProcessFile(written, "api-test");
+                                postProcessFile(written, "api-test");
                             }
                         }
                     }
@@ -977,7 +1031,7 @@ public class DefaultGenerator implements Generator {
                     if (written != null) {
                         files.add(written);
                         if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api-doc");
+                            postProcessFile(written, "api-doc");
                         }
                     }
                 }
@@ -1108,7 +1162,7 @@ public class DefaultGenerator implements Generator {
                 if (written != null) {
                     files.add(written);
                     if (config.isEnablePostProcessFile() && !dryRun) {
-                        config.postProcessFile(written, "supporting-file");
+                        postProcessFile(written, "supporting-file");
                     }
                 }
             } catch (Exception e) {
@@ -1133,7 +1187,7 @@ public class DefaultGenerator implements Generator {
                     if (written != null) {
                         files.add(written);
                         if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "openapi-generator-ignore");
+                            postProcessFile(written, "openapi-generator-ignore");
                         }
                     }
                 } catch (Exception e) {
@@ -1180,7 +1234,8 @@ public class DefaultGenerator implements Generator {
         bundle.put("generatorLanguageVersion", config.generatorLanguageVersion());
         // todo verify support and operation bundles have access to the common variables
 
-        addAuthenticationSwitches(bundle);
+        // not shared with the API files: some generators rename the auth methods of the supporting files
+        bundle.putAll(buildAuthenticationSwitches());
 
         List<CodegenServer> servers = config.fromServers(openAPI.getServers());
         if (servers != null && !servers.isEmpty()) {
@@ -1221,10 +1276,20 @@ public class DefaultGenerator implements Generator {
      *   boolean hasOAuthMethods
      * <p>
      *   List&lt;CodegenSecurity&gt; oauthMethods
+     * <p>
+     * The security schemes are converted once per run, and the API files share the result.
      *
      * @param bundle the map which the booleans and collections will be added
      */
     void addAuthenticationSwitches(Map<String, Object> bundle) {
+        if (authenticationSwitches == null) {
+            authenticationSwitches = Collections.unmodifiableMap(buildAuthenticationSwitches());
+        }
+        bundle.putAll(authenticationSwitches);
+    }
+
+    private Map<String, Object> buildAuthenticationSwitches() {
+        Map<String, Object> bundle = new HashMap<>();
         Map<String, SecurityScheme> securitySchemeMap = openAPI.getComponents() != null ? openAPI.getComponents().getSecuritySchemes() : null;
         List<CodegenSecurity> authMethods = config.fromSecurity(securitySchemeMap);
         if (authMethods != null && !authMethods.isEmpty()) {
@@ -1256,6 +1321,7 @@ public class DefaultGenerator implements Generator {
                 bundle.put("apiKeyMethods", ProcessUtils.getApiKeyMethods(authMethods));
             }
         }
+        return bundle;
     }
 
     @Override
@@ -1290,26 +1356,54 @@ public class DefaultGenerator implements Generator {
 
         config.processOpenAPI(openAPI);
 
+        configureTemplateCache();
+
         processUserDefinedTemplates();
 
+        configureIncrementalGeneration();
+
         // generate .openapi-generator-ignore if the option openapiGeneratorIgnoreFile is enabled
         generateOpenapiGeneratorIgnoreFile();
 
         List<File> files = new ArrayList<>();
-        // models
-        List<String> filteredSchemas = ModelUtils.getSchemasUsedOnlyInFormParam(openAPI);
-        List<ModelMap> allModels = new ArrayList<>();
-        List<ModelMap> aliasModels = new ArrayList<>();
-        generateModels(files, allModels, filteredSchemas, aliasModels);
-        // apis
-        List<OperationsMap> allOperations = new ArrayList<>();
-        generateApis(files, allOperations, allModels);
-        // webhooks
-        List<WebhooksMap> allWebhooks = new ArrayList<>();
-        generateWebhooks(files, allWebhooks, allModels);
-        // supporting files
-        Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels, aliasModels, allWebhooks);
-        generateSupportingFiles(files, bundle);
+        renderingExecutor = newRenderingExecutor();
+        try {
+            // before the rendering threads are started, so that they share the caches of the run
+            installNameCaches();
+            // models
+            // the generator's preprocessing may have modified the paths or schemas in place
+            ModelUtils.clearSchemaUsage(openAPI);
+            List<String> filteredSchemas = ModelUtils.getSchemasUsedOnlyInFormParam(openAPI);
+            List<ModelMap> allModels = new ArrayList<>();
+            List<ModelMap> aliasModels = new ArrayList<>();
+            generateModels(files, allModels, filteredSchemas, aliasModels);
+            config.setModelIndex(ModelIndex.of(allModels));
+            // apis
+            List<OperationsMap> allOperations = new ArrayList<>();
+            generateApis(files, allOperations, allModels);
+            // webhooks
+            List<WebhooksMap> allWebhooks = new ArrayList<>();
+            generateWebhooks(files, allWebhooks, allModels);
+            // supporting files
+            Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels, aliasModels, allWebhooks);
+            generateSupportingFiles(files, bundle);
+        } finally {
+            if (renderingExecutor != null) {
+                renderingExecutor.shutdownNow();
+                renderingExecutor = null;
+            }
+            releaseRunNameCaches();
+            releaseAuthMethods();
+            // wait for the external post-processors run in batches, even if rendering failed, as they rewrite files in place
+            if (config.isEnablePostProcessFile() && !dryRun) {
+                config.awaitPostProcessFiles();
+            }
+        }
+
+        if (config instanceof DefaultCodegen) {
+            LOGGER.debug("fromProperty cache: {} hits, {} misses",
+                    ((DefaultCodegen) config).getPropertyCacheHits(), ((DefaultCodegen) config).getPropertyCacheMisses());
+        }
 
         if (dryRun) {
             boolean verbose = Boolean.parseBoolean(GlobalSettings.getProperty("verbose"));
@@ -1353,6 +1447,9 @@ public class DefaultGenerator implements Generator {
             if (generateSupportingFiles) {
                 generateFilesMetadata(files);
             }
+            if (inputsManifest != null) {
+                generateInputsMetadata();
+            }
         }
 
         // post-process
@@ -1364,6 +1461,126 @@ public class DefaultGenerator implements Generator {
         return files;
     }
 
+    /**
+     * Creates the thread pool used to render model and API files, when more than one rendering thread is requested.
+     *
+     * @return The thread pool, or null to render files on the calling thread
+     */
+    private ExecutorService newRenderingExecutor() {
+        String renderingThreads = GlobalSettings.getProperty(CodegenConstants.RENDERING_THREADS, generatorPropertyDefaults.get(CodegenConstants.RENDERING_THREADS));
+        int threads = NumberUtils.toInt(renderingThreads, 1);
+        if (dryRun || threads <= 1) {
+            return null;
+        }
+        LOGGER.info("Rendering model and API files with {} threads", threads);
+        // worker threads are started from this thread and so inherit its GlobalSettings
+        return Executors.newFixedThreadPool(threads);
+    }
+
+    /**
+     * Releases the names transformed during this run, which are only memoized for its duration.
+     */
+    private void releaseRunNameCaches() {
+        List<String> stats = new ArrayList<>(releaseNameCaches());
+        if (config instanceof DefaultCodegen) {
+            stats.add(((DefaultCodegen) config).releaseSanitizedNameCache());
+        }
+        LOGGER.debug("Name caches: {}", String.join(", ", stats));
+    }
+
+    /**
+     * Releases the auth methods converted during this run, which are only memoized for its duration.
+     */
+    private void releaseAuthMethods() {
+        authenticationSwitches = null;
+        operationAuthMethods.clear();
+    }
+
+    /**
+     * Renders the files of one model or API. Files are rendered right away, unless rendering in parallel
+     * in which case the task is deferred until all models or APIs of the run have been processed.
+     *
+     * @param files    The list tracking generated files
+     * @param deferred The tasks deferred to {@link #renderDeferred(List, List)}
+     * @param task     The rendering task
+     */
+    private void render(List<File> files, List<RenderTask> deferred, RenderTask task) {
+        if (renderingExecutor == null) {
+            files.addAll(task.call());
+        } else {
+            deferred.add(task);
+        }
+    }
+
+    /**
+     * Renders deferred tasks in parallel, tracking the generated files in the order the tasks were deferred
+     * so that the result is identical to rendering them one after another.
+     *
+     * @param files    The list tracking generated files
+     * @param deferred The deferred rendering tasks
+     */
+    private void renderDeferred(List<File> files, List<RenderTask> deferred) {
+        if (deferred.isEmpty()) {
+            return;
+        }
+        try {
+            for (Future<List<File>> rendered : renderingExecutor.invokeAll(deferred)) {
+                files.addAll(rendered.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while rendering files", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    @FunctionalInterface
+    private interface FileRenderer {
+        void render(List<File> files) throws Exception;
+    }
+
+    /**
+     * Renders all files of a single model or API, once its template data is final.
+     */
+    private static final class RenderTask implements Callable<List<File>> {
+        private final String failureMessage;
+        private final FileRenderer renderer;
+
+        RenderTask(String failureMessage, FileRenderer renderer) {
+            this.failureMessage = failureMessage;
+            this.renderer = renderer;
+        }
+
+        @Override
+        public List<File> call() {
+            List<File> written = new ArrayList<>();
+            try {
+                renderer.render(written);
+            } catch (Exception e) {
+                throw new RuntimeException(failureMessage, e);
+            }
+            return written;
+        }
+    }
+
+    /**
+     * Scopes the compiled template cache of the templating engine to this generator's template locations,
+     * which are only final once the generator options have been processed.
+     */
+    private void configureTemplateCache() {
+        if (config.getTemplatingEngine() instanceof MustacheEngineAdapter) {
+            MustacheEngineAdapter mustacheEngineAdapter = (MustacheEngineAdapter) config.getTemplatingEngine();
+            if (Boolean.parseBoolean(GlobalSettings.getProperty(CodegenConstants.SHARED_TEMPLATE_CACHE))) {
+                mustacheEngineAdapter.setTemplateCache(MustacheEngineAdapter.SHARED_TEMPLATE_CACHE);
+            }
+            mustacheEngineAdapter.setTemplateCacheScope(CompiledTemplateCache.scopeOf(config));
+        }
+    }
+
     private void processUserDefinedTemplates() {
         // TODO: initial behavior is "merge" user defined with built-in templates. consider offering user a "replace" option.
         if (userDefinedTemplates != null && !userDefinedTemplates.isEmpty()) {
@@ -1437,11 +1654,30 @@ public class DefaultGenerator implements Generator {
         }
     }
 
+    /**
+     * Creates the template processor rendering the generated files and writing them to the output directory, when
+     * not in dry run mode. Subclasses may write the files elsewhere, e.g. by overriding
+     * {@link TemplateManager#writeToFile(String, byte[])}.
+     *
+     * @param options          The options of the template processor
+     * @param templatingEngine The templating engine of the generator
+     * @param templateLoaders  The locators of the templates, by priority
+     * @return The template processor
+     */
+    protected TemplateProcessor newTemplateProcessor(TemplateManagerOptions options, TemplatingEngineAdapter templatingEngine, TemplatePathLocator[] templateLoaders) {
+        return new TemplateManager(options, templatingEngine, templateLoaders);
+    }
+
     protected File processTemplateToFile(Map<String, Object> templateData, String templateName, String outputFilename, boolean shouldGenerate, String skippedByOption) throws IOException {
         return processTemplateToFile(templateData, templateName, outputFilename, shouldGenerate, skippedByOption, this.config.getOutputDir());
     }
 
-    private final Set<String> seenFiles = new HashSet<>();
+    private final OutputFileRegistry outputFiles = new OutputFileRegistry();
+
+    private static String outputOrigin(Map<String, Object> templateData, String templateName) {
+        Object classname = templateData.get("classname");
+        return classname == null ? templateName : templateName + " for " + classname;
+    }
 
     private File processTemplateToFile(Map<String, Object> templateData, String templateName, String outputFilename, boolean shouldGenerate, String skippedByOption, String intendedOutputDir) throws IOException {
         String adjustedOutputFilename = outputFilename.replaceAll("//", "/").replace('/', File.separatorChar);
@@ -1454,38 +1690,145 @@ public class DefaultGenerator implements Generator {
                     throw new RuntimeException(String.format(Locale.ROOT, "Target files must be generated within the output directory; absoluteTarget=%s outDir=%s", absoluteTarget, outDir));
                 }
 
-                if (seenFiles.stream().filter(f -> f.toLowerCase(Locale.ROOT).equals(absoluteTarget.toString().toLowerCase(Locale.ROOT))).findAny().isPresent()) {
-                    LOGGER.warn("Duplicate file path detected. Not all operating systems can handle case sensitive file paths. path={}", absoluteTarget.toString());
+                String origin = outputOrigin(templateData, templateName);
+                OutputFileRegistry.OutputFile previous = outputFiles.register(absoluteTarget, origin);
+                if (previous != null) {
+                    LOGGER.warn("Duplicate file path detected. Not all operating systems can handle case sensitive file paths. path={} (from {}), previously generated {}",
+                            absoluteTarget, origin, previous);
+                }
+                // test files are only generated once, and then belong to the user
+                boolean incremental = inputsManifest != null && !CodegenConstants.MODEL_TESTS.equals(skippedByOption) && !CodegenConstants.API_TESTS.equals(skippedByOption);
+                if (incremental && inputsManifest.record(relativeOutputPath(target), inputsFingerprint(templateData, templateName)) && target.exists()) {
+                    this.templateProcessor.skip(target.toPath(), "Inputs unchanged since the previous run.");
+                    unchangedFiles.add(target);
+                    return target;
                 }
-                seenFiles.add(absoluteTarget.toString());
                 return this.templateProcessor.write(templateData, templateName, target);
             } else {
                 this.templateProcessor.skip(target.toPath(), String.format(Locale.ROOT, "Skipped by %s options supplied by user.", skippedByOption));
+                retainOutput(target);
                 return null;
             }
         } else {
             this.templateProcessor.ignore(target.toPath(), "Ignored by rule in ignore file.");
+            retainOutput(target);
             return null;
         }
     }
 
+    /**
+     * Post-processes a generated file, unless it was left as is because its inputs haven't changed since the previous
+     * run, in which case it was post-processed by that run.
+     */
+    private void postProcessFile(File file, String fileType) {
+        if (!unchangedFiles.contains(file)) {
+            config.postProcessFile(file, fileType);
+        }
+    }
+
+    /**
+     * Reads the fingerprints of the inputs of the files generated by the previous run when generating incrementally,
+     * and computes the fingerprint of the templates of this run.
+     */
+    private void configureIncrementalGeneration() {
+        String incrementalGeneration = GlobalSettings.getProperty(CodegenConstants.INCREMENTAL_GENERATION, generatorPropertyDefaults.get(CodegenConstants.INCREMENTAL_GENERATION));
+        if (dryRun || !generateMetadata || !Boolean.parseBoolean(incrementalGeneration)) {
+            return;
+        }
+        Path manifest = java.nio.file.Paths.get(config.outputFolder(), METADATA_DIR, INPUTS_METADATA_FILENAME);
+        try {
+            inputsManifest = InputsManifest.read(manifest);
+            templatesFingerprint = computeTemplatesFingerprint();
+            templateDataFingerprint = new TemplateDataFingerprint();
+        } catch (IOException e) {
+            LOGGER.warn("Failed to read {}, all files will be generated.", manifest, e);
+            inputsManifest = null;
+        }
+    }
+
+    /**
+     * Computes the fingerprint of what determines how the template data is rendered, apart from the data itself: the
+     * generator and its version, the templating engine, and the content of the user's template directory.
+     */
+    private byte[] computeTemplatesFingerprint() throws IOException {
+        MessageDigest digest = newSha256();
+        List<String> parts = Arrays.asList(ImplementationVersion.read(), config.getClass().getName(), config.getLibrary(),
+                config.getTemplatingEngine().getIdentifier(), config.templateDir(), config.embeddedTemplateDir());
+        for (String part : parts) {
+            digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        if (config.templateDir() != null) {
+            Path templateDir = java.nio.file.Paths.get(config.templateDir());
+            if (Files.isDirectory(templateDir)) {
+                List<Path> templates;
+                try (java.util.stream.Stream<Path> walk = Files.walk(templateDir)) {
+                    templates = walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+                }
+                for (Path template : templates) {
+                    digest.update(templateDir.relativize(template).toString().getBytes(StandardCharsets.UTF_8));
+                    digest.update((byte) 0);
+                    digest.update(Files.readAllBytes(template));
+                }
+            }
+        }
+        return digest.digest();
+    }
+
+    private String inputsFingerprint(Map<String, Object> templateData, String templateName) {
+        MessageDigest digest = newSha256();
+        digest.update(templatesFingerprint);
+        digest.update(templateName.getBytes(StandardCharsets.UTF_8));
+        digest.update(templateDataFingerprint.of(templateData));
+        StringBuilder sb = new StringBuilder();
+        for (byte b : digest.digest()) {
+            sb.append(String.format(Locale.ROOT, "%02x", b));
+        }
+        return sb.toString();
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * Keeps track of a file generated by a previous run which this run skips or ignores, so that it isn't deleted as
+     * no longer generated.
+     */
+    private void retainOutput(File file) {
+        if (inputsManifest != null) {
+            inputsManifest.retain(relativeOutputPath(file));
+        }
+    }
+
+    private String relativeOutputPath(File file) {
+        Path outDir = absPath(new File(this.config.getOutputDir()));
+        String relativePath = outDir.relativize(absPath(file)).normalize().toString();
+        return File.separator.equals("\\") ? relativePath.replace(File.separator, "/") : relativePath;
+    }
+
     public Map<String, List<CodegenOperation>> processPaths(Paths paths) {
         Map<String, List<CodegenOperation>> ops = new TreeMap<>();
         // when input file is not valid and doesn't contain any paths
         if (paths == null) {
             return ops;
         }
+        Map<String, Tag> tagsByName = indexTags();
         for (Map.Entry<String, PathItem> pathsEntry : paths.entrySet()) {
             String resourcePath = pathsEntry.getKey();
             PathItem path = pathsEntry.getValue();
-            processOperation(resourcePath, "get", path.getGet(), ops, path);
-            processOperation(resourcePath, "head", path.getHead(), ops, path);
-            processOperation(resourcePath, "put", path.getPut(), ops, path);
-            processOperation(resourcePath, "post", path.getPost(), ops, path);
-            processOperation(resourcePath, "delete", path.getDelete(), ops, path);
-            processOperation(resourcePath, "patch", path.getPatch(), ops, path);
-            processOperation(resourcePath, "options", path.getOptions(), ops, path);
-            processOperation(resourcePath, "trace", path.getTrace(), ops, path);
+            processOperation(resourcePath, "get", path.getGet(), ops, path, tagsByName);
+            processOperation(resourcePath, "head", path.getHead(), ops, path, tagsByName);
+            processOperation(resourcePath, "put", path.getPut(), ops, path, tagsByName);
+            processOperation(resourcePath, "post", path.getPost(), ops, path, tagsByName);
+            processOperation(resourcePath, "delete", path.getDelete(), ops, path, tagsByName);
+            processOperation(resourcePath, "patch", path.getPatch(), ops, path, tagsByName);
+            processOperation(resourcePath, "options", path.getOptions(), ops, path, tagsByName);
+            processOperation(resourcePath, "trace", path.getTrace(), ops, path, tagsByName);
         }
         return ops;
     }
@@ -1496,22 +1839,23 @@ public class DefaultGenerator implements Generator {
         if (webhooks == null) {
             return ops;
         }
+        Map<String, Tag> tagsByName = indexTags();
         for (Map.Entry<String, PathItem> webhooksEntry : webhooks.entrySet()) {
             String resourceKey = webhooksEntry.getKey();
             PathItem path = webhooksEntry.getValue();
-            processOperation(resourceKey, "get", path.getGet(), ops, path);
-            processOperation(resourceKey, "head", path.getHead(), ops, path);
-            processOperation(resourceKey, "put", path.getPut(), ops, path);
-            processOperation(resourceKey, "post", path.getPost(), ops, path);
-            processOperation(resourceKey, "delete", path.getDelete(), ops, path);
-            processOperation(resourceKey, "patch", path.getPatch(), ops, path);
-            processOperation(resourceKey, "options", path.getOptions(), ops, path);
-            processOperation(resourceKey, "trace", path.getTrace(), ops, path);
+            processOperation(resourceKey, "get", path.getGet(), ops, path, tagsByName);
+            processOperation(resourceKey, "head", path.getHead(), ops, path, tagsByName);
+            processOperation(resourceKey, "put", path.getPut(), ops, path, tagsByName);
+            processOperation(resourceKey, "post", path.getPost(), ops, path, tagsByName);
+            processOperation(resourceKey, "delete", path.getDelete(), ops, path, tagsByName);
+            processOperation(resourceKey, "patch", path.getPatch(), ops, path, tagsByName);
+            processOperation(resourceKey, "options", path.getOptions(), ops, path, tagsByName);
+            processOperation(resourceKey, "trace", path.getTrace(), ops, path, tagsByName);
         }
         return ops;
     }
 
-    private void processOperation(String resourcePath, String httpMethod, Operation operation, Map<String, List<CodegenOperation>> operations, PathItem path) {
+    private void processOperation(String resourcePath, String httpMethod, Operation operation, Map<String, List<CodegenOperation>> operations, PathItem path, Map<String, Tag> tagsByName) {
         if (operation == null) {
             return;
         }
@@ -1522,27 +1866,10 @@ public class DefaultGenerator implements Generator {
 
         List<Tag> tags = new ArrayList<>();
         List<String> tagNames = operation.getTags();
-        List<Tag> swaggerTags = openAPI.getTags();
         if (tagNames != null) {
-            if (swaggerTags == null) {
-                for (String tagName : tagNames) {
-                    tags.add(new Tag().name(tagName));
-                }
-            } else {
-                for (String tagName : tagNames) {
-                    boolean foundTag = false;
-                    for (Tag tag : swaggerTags) {
-                        if (tag.getName().equals(tagName)) {
-                            tags.add(tag);
-                            foundTag = true;
-                            break;
-                        }
-                    }
-
-                    if (!foundTag) {
-                        tags.add(new Tag().name(tagName));
-                    }
-                }
+            for (String tagName : tagNames) {
+                Tag tag = tagsByName.get(tagName);
+                tags.add(tag != null ? tag : new Tag().name(tagName));
             }
         }
 
@@ -1572,40 +1899,26 @@ public class DefaultGenerator implements Generator {
             }
         }
 
-        final Map<String, SecurityScheme> securitySchemes = openAPI.getComponents() != null ? openAPI.getComponents().getSecuritySchemes() : null;
-        final List<SecurityRequirement> globalSecurities = openAPI.getSecurity();
-        for (Tag tag : tags) {
-            try {
-                if (operation.getExtensions() != null && Boolean.TRUE.equals(operation.getExtensions().get("x-internal"))) {
-                    // skip operation if x-internal sets to true
-                    LOGGER.info("Operation ({} {} - {}) not generated since x-internal is set to true",
-                            httpMethod, resourcePath, operation.getOperationId());
-                } else {
-                    CodegenOperation codegenOperation = config.fromOperation(resourcePath, httpMethod, operation, path.getServers());
-                    codegenOperation.tags = new ArrayList<>(tags);
-                    config.addOperationToGroup(config.sanitizeTag(tag.getName()), resourcePath, operation, codegenOperation, operations);
-
-                    List<SecurityRequirement> securities = operation.getSecurity();
-                    if (securities != null && securities.isEmpty()) {
-                        continue;
-                    }
-
-                    Map<String, SecurityScheme> authMethods = getAuthMethods(securities, securitySchemes);
-
-                    if (authMethods != null && !authMethods.isEmpty()) {
-                        List<CodegenSecurity> fullAuthMethods = config.fromSecurity(authMethods);
-                        codegenOperation.authMethods = filterAuthMethods(fullAuthMethods, securities);
-                        codegenOperation.hasAuthMethods = true;
-                    } else {
-                        authMethods = getAuthMethods(globalSecurities, securitySchemes);
+        if (operation.getExtensions() != null && Boolean.TRUE.equals(operation.getExtensions().get("x-internal"))) {
+            // skip operation if x-internal sets to true
+            LOGGER.info("Operation ({} {} - {}) not generated since x-internal is set to true",
+                    httpMethod, resourcePath, operation.getOperationId());
+            return;
+        }
 
-                        if (authMethods != null && !authMethods.isEmpty()) {
-                            List<CodegenSecurity> fullAuthMethods = config.fromSecurity(authMethods);
-                            codegenOperation.authMethods = filterAuthMethods(fullAuthMethods, globalSecurities);
-                            codegenOperation.hasAuthMethods = true;
-                        }
-                    }
+        // the operation is converted once, and each tag but the last gets its own copy of the conversion, since
+        // grouping and post-processing modify the operation
+        CodegenOperation converted = null;
+        for (int i = 0; i < tags.size(); i++) {
+            Tag tag = tags.get(i);
+            try {
+                if (converted == null) {
+                    converted = convertOperation(resourcePath, httpMethod, operation, path, tags);
                 }
+                CodegenOperation codegenOperation = i == tags.size() - 1 ? converted
+                        : copyOperation(converted, resourcePath, httpMethod, operation, path, tags);
+                config.addOperationToGroup(config.sanitizeTag(tag.getName()), resourcePath, operation, codegenOperation, operations);
+                addAuthMethods(operation, codegenOperation);
             } catch (Exception ex) {
                 String msg = "Could not process operation:\n" //
                         + "  Tag: " + tag + "\n"//
@@ -1618,6 +1931,66 @@ public class DefaultGenerator implements Generator {
         }
     }
 
+    private CodegenOperation convertOperation(String resourcePath, String httpMethod, Operation operation, PathItem path, List<Tag> tags) {
+        CodegenOperation codegenOperation = config.fromOperation(resourcePath, httpMethod, operation, path.getServers());
+        codegenOperation.tags = new ArrayList<>(tags);
+        return codegenOperation;
+    }
+
+    private void addAuthMethods(Operation operation, CodegenOperation codegenOperation) {
+        List<SecurityRequirement> securities = operation.getSecurity();
+        if (securities != null && securities.isEmpty()) {
+            return;
+        }
+
+        if (!hasKnownSecurityScheme(securities)) {
+            securities = openAPI.getSecurity();
+        }
+        if (hasKnownSecurityScheme(securities)) {
+            codegenOperation.authMethods = operationAuthMethods.computeIfAbsent(securities, this::convertAuthMethods);
+            codegenOperation.hasAuthMethods = true;
+        }
+    }
+
+    private boolean hasKnownSecurityScheme(List<SecurityRequirement> securities) {
+        final Map<String, SecurityScheme> securitySchemes = openAPI.getComponents() != null ? openAPI.getComponents().getSecuritySchemes() : null;
+        if (securities == null || securitySchemes == null) {
+            return false;
+        }
+        return securities.stream().flatMap(requirement -> requirement.keySet().stream()).anyMatch(securitySchemes::containsKey);
+    }
+
+    /**
+     * Converts the security schemes of some security requirements, filtered to the required scopes.
+     * This is memoized for the run: operations with equal requirements share the same auth methods.
+     */
+    private List<CodegenSecurity> convertAuthMethods(List<SecurityRequirement> securities) {
+        final Map<String, SecurityScheme> securitySchemes = openAPI.getComponents() != null ? openAPI.getComponents().getSecuritySchemes() : null;
+        return filterAuthMethods(config.fromSecurity(getAuthMethods(securities, securitySchemes)), securities);
+    }
+
+    private CodegenOperation copyOperation(CodegenOperation converted, String resourcePath, String httpMethod, Operation operation, PathItem path, List<Tag> tags) {
+        try {
+            return CodegenOperationCopier.copy(converted);
+        } catch (IllegalStateException e) {
+            LOGGER.debug("Converting operation {} {} again: {}", httpMethod, resourcePath, e.getMessage());
+            return convertOperation(resourcePath, httpMethod, operation, path, tags);
+        }
+    }
+
+    /**
+     * @return The tags declared by the document by name, keeping the first one of tags with the same name
+     */
+    private Map<String, Tag> indexTags() {
+        Map<String, Tag> tagsByName = new HashMap<>();
+        if (openAPI.getTags() != null) {
+            for (Tag tag : openAPI.getTags()) {
+                tagsByName.putIfAbsent(tag.getName(), tag);
+            }
+        }
+        return tagsByName;
+    }
+
     private static String generateParameterId(Parameter parameter) {
         return null == parameter.get$ref() ? parameter.getName() + ":" + parameter.getIn() : parameter.get$ref() ;    
     }
@@ -2030,6 +2403,49 @@ public class DefaultGenerator implements Generator {
         }
     }
 
+    /**
+     * Generates a file at .openapi-generator/INPUTS with the fingerprints of the inputs of the files generated by this
+     * run, after deleting the files generated by the previous run which are no longer generated, unless this run
+     * only generates some of the files.
+     */
+    private void generateInputsMetadata() {
+        boolean selective = !(generateApis && generateModels && generateSupportingFiles && generateWebhooks
+                && generateApiTests && generateApiDocumentation && generateModelTests && generateModelDocumentation)
+                || StringUtils.isNotEmpty(GlobalSettings.getProperty(CodegenConstants.APIS))
+                || StringUtils.isNotEmpty(GlobalSettings.getProperty(CodegenConstants.MODELS))
+                || StringUtils.isNotEmpty(GlobalSettings.getProperty(CodegenConstants.SUPPORTING_FILES))
+                || StringUtils.isNotEmpty(GlobalSettings.getProperty(CodegenConstants.WEBHOOKS));
+        if (selective) {
+            inputsManifest.retainAll();
+        } else {
+            Path outDir = java.nio.file.Paths.get(config.getOutputDir()).toAbsolutePath().normalize();
+            for (String removed : inputsManifest.getRemoved()) {
+                File file = new File(config.getOutputDir(), removed);
+                if (!file.toPath().toAbsolutePath().normalize().startsWith(outDir)) {
+                    // the manifest was edited, as generated files are always within the output directory
+                    LOGGER.warn("Not deleting {}, which is outside of the output directory {}", file, outDir);
+                } else if (ignoreProcessor.allowsFile(file)) {
+                    try {
+                        if (Files.deleteIfExists(file.toPath())) {
+                            LOGGER.info("Deleted {} (no longer generated)", file);
+                        }
+                    } catch (IOException e) {
+                        LOGGER.warn("Failed to delete {}, which is no longer generated.", file, e);
+                    }
+                } else {
+                    inputsManifest.retain(removed);
+                }
+            }
+        }
+
+        String targetFile = config.outputFolder() + File.separator + METADATA_DIR + File.separator + INPUTS_METADATA_FILENAME;
+        try {
+            this.templateProcessor.writeToFile(targetFile, inputsManifest.format().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write INPUTS metadata to track the inputs of generated files.", e);
+        }
+    }
+
     private String removeTrailingSlash(String value) {
         return StringUtils.removeEnd(value, "/");
     }
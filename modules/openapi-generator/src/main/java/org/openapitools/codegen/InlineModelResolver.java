@@ -17,7 +17,6 @@
 
 package org.openapitools.codegen;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -37,13 +36,17 @@ import org.openapitools.codegen.utils.ModelUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.*;
 
 public class InlineModelResolver {
     private OpenAPI openAPI;
     private Map<String, Schema> addedModels = new HashMap<>();
-    private Map<String, String> generatedSignature = new HashMap<>();
+    private Map<SchemaFingerprint, String> generatedSignature = new HashMap<>();
+    // the fingerprint of the last schema which didn't match any generated schema, and is usually registered next
+    private Schema lastMatchedSchema;
+    private SchemaFingerprint lastMatchedFingerprint;
     private Map<String, String> inlineSchemaNameMapping = new HashMap<>();
     private Map<String, String> inlineSchemaOptions = new HashMap<>();
     private Set<String> inlineSchemaNameMappingValues = new HashSet<>();
@@ -757,11 +760,12 @@ public class InlineModelResolver {
         }
 
         try {
-            String json = structureMapper.writeValueAsString(model);
-            if (generatedSignature.containsKey(json)) {
-                return generatedSignature.get(json);
-            }
-        } catch (JsonProcessingException e) {
+            SchemaFingerprint fingerprint = SchemaFingerprint.of(structureMapper, model);
+            String existing = generatedSignature.get(fingerprint);
+            lastMatchedSchema = existing == null ? model : null;
+            lastMatchedFingerprint = existing == null ? fingerprint : null;
+            return existing;
+        } catch (IOException e) {
             e.printStackTrace();
         }
 
@@ -769,10 +773,17 @@ public class InlineModelResolver {
     }
 
     private void addGenerated(String name, Schema model) {
+        if (skipSchemaReuse) { // generated schemas are never looked up
+            return;
+        }
+
         try {
-            String json = structureMapper.writeValueAsString(model);
-            generatedSignature.put(json, name);
-        } catch (JsonProcessingException e) {
+            SchemaFingerprint fingerprint = model == lastMatchedSchema
+                    ? lastMatchedFingerprint : SchemaFingerprint.of(structureMapper, model);
+            lastMatchedSchema = null;
+            lastMatchedFingerprint = null;
+            generatedSignature.put(fingerprint, name);
+        } catch (IOException e) {
             e.printStackTrace();
         }
     }
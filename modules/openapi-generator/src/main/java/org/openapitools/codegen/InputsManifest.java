@@ -0,0 +1,118 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The fingerprints of the inputs of the files generated by a run, i.e. of what they're rendered from, kept in the
+ * metadata of the output directory so that the next run can leave the files whose inputs haven't changed as they are.
+ * <p>
+ * The manifest has one line per file, with the fingerprint of its inputs and its path relative to the output
+ * directory, separated by a space. Files are added to the manifest of the current run as they're generated, which
+ * may happen from several rendering threads at once.
+ */
+final class InputsManifest {
+    private final Map<String, String> previous;
+    private final Map<String, String> current = new ConcurrentHashMap<>();
+
+    private InputsManifest(Map<String, String> previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Reads the manifest of the previous run.
+     *
+     * @param file The manifest file
+     * @return The manifest, which is empty if the file doesn't exist
+     * @throws IOException if the file can't be read
+     */
+    static InputsManifest read(Path file) throws IOException {
+        Map<String, String> previous = new HashMap<>();
+        if (Files.exists(file)) {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            for (String line : lines) {
+                int separator = line.indexOf(' ');
+                if (separator > 0) {
+                    previous.put(line.substring(separator + 1), line.substring(0, separator));
+                }
+            }
+        }
+        return new InputsManifest(previous);
+    }
+
+    /**
+     * Records the fingerprint of the inputs of a file generated by the current run.
+     *
+     * @param path        The path of the file, relative to the output directory
+     * @param fingerprint The fingerprint of the inputs of the file
+     * @return true if the file was generated from the same inputs by the previous run
+     */
+    boolean record(String path, String fingerprint) {
+        current.put(path, fingerprint);
+        return fingerprint.equals(previous.get(path));
+    }
+
+    /**
+     * Keeps a file generated by the previous run, which the current run doesn't overwrite.
+     *
+     * @param path The path of the file, relative to the output directory
+     */
+    void retain(String path) {
+        String fingerprint = previous.get(path);
+        if (fingerprint != null) {
+            current.putIfAbsent(path, fingerprint);
+        }
+    }
+
+    /**
+     * Keeps all the files generated by the previous run, which the current run doesn't overwrite.
+     */
+    void retainAll() {
+        previous.keySet().forEach(this::retain);
+    }
+
+    /**
+     * @return The paths of the files generated by the previous run but neither generated nor retained by the current
+     * one, sorted
+     */
+    Set<String> getRemoved() {
+        Set<String> removed = new TreeSet<>(previous.keySet());
+        removed.removeAll(current.keySet());
+        return Collections.unmodifiableSet(removed);
+    }
+
+    /**
+     * @return The manifest of the current run
+     */
+    String format() {
+        StringBuilder sb = new StringBuilder();
+        new TreeMap<>(current).forEach((path, fingerprint) -> sb.append(fingerprint).append(' ').append(path).append('\n'));
+        return sb.toString();
+    }
+}
@@ -32,6 +32,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import static org.openapitools.codegen.utils.StringUtils.getUniqueString;
@@ -134,6 +137,9 @@ public class OpenAPINormalizer {
 
     // ============= end of rules =============
 
+    // time spent in and number of invocations of each enabled rule
+    private final Map<String, RuleTiming> ruleTimings = new TreeMap<>();
+
     /**
      * Initializes OpenAPI Normalizer with a set of rules
      *
@@ -183,6 +189,43 @@ public class OpenAPINormalizer {
         anyTypeTreeSet.add("array");
     }
 
+    /**
+     * Returns the time spent in each enabled rule while normalizing, for performance analysis.
+     * The time of a rule includes the time spent normalizing the schemas it produces.
+     *
+     * @return the timing of each rule applied, by rule name
+     */
+    public Map<String, RuleTiming> getRuleTimings() {
+        return Collections.unmodifiableMap(ruleTimings);
+    }
+
+    /**
+     * Applies a rule to a schema (or operation), recording the time spent if the rule is enabled.
+     *
+     * @param ruleName the name of the rule
+     * @param rule     the method processing the rule
+     * @param target   the schema or operation to process
+     * @return the processed schema (or operation)
+     */
+    private <T> T applyRule(String ruleName, UnaryOperator<T> rule, T target) {
+        if (!getRule(ruleName)) {
+            return rule.apply(target);
+        }
+        long start = System.nanoTime();
+        try {
+            return rule.apply(target);
+        } finally {
+            ruleTimings.computeIfAbsent(ruleName, k -> new RuleTiming()).record(System.nanoTime() - start);
+        }
+    }
+
+    private <T> void runRule(String ruleName, Consumer<T> rule, T target) {
+        applyRule(ruleName, t -> {
+            rule.accept(t);
+            return t;
+        }, target);
+    }
+
     /**
      * Get the rule.
      *
@@ -301,6 +344,10 @@ public class OpenAPINormalizer {
         normalizePaths();
         normalizeComponentsSchemas();
         normalizeComponentsResponses();
+
+        if (LOGGER.isDebugEnabled()) {
+            ruleTimings.forEach((ruleName, timing) -> LOGGER.debug("OpenAPI Normalizer rule {}: {}", ruleName, timing));
+        }
     }
 
     /**
@@ -367,15 +414,15 @@ public class OpenAPINormalizer {
      * @param operation Operation
      */
     private void normalizeOperation(Operation operation) {
-        processRemoveXInternalFromOperation(operation);
+        runRule(REMOVE_X_INTERNAL, this::processRemoveXInternalFromOperation, operation);
 
-        processKeepOnlyFirstTagInOperation(operation);
+        runRule(KEEP_ONLY_FIRST_TAG_IN_OPERATION, this::processKeepOnlyFirstTagInOperation, operation);
 
-        processSetTagsForAllOperations(operation);
+        runRule(SET_TAGS_FOR_ALL_OPERATIONS, this::processSetTagsForAllOperations, operation);
 
-        processSetTagsToOperationId(operation);
+        runRule(SET_TAGS_TO_OPERATIONID, this::processSetTagsToOperationId, operation);
 
-        processFixDuplicatedOperationId(operation);
+        runRule(FIX_DUPLICATED_OPERATIONID, this::processFixDuplicatedOperationId, operation);
     }
 
     /**
@@ -395,7 +442,7 @@ public class OpenAPINormalizer {
             } else if (mediaType.getSchema() == null) {
                 continue;
             } else {
-                Schema newSchema = normalizeSchema(mediaType.getSchema(), new HashSet<>());
+                Schema newSchema = normalizeSchema(mediaType.getSchema(), newVisitedSchemas());
                 mediaType.setSchema(newSchema);
             }
         }
@@ -443,7 +490,7 @@ public class OpenAPINormalizer {
             }
 
             if (parameter.getSchema() != null) {
-                Schema newSchema = normalizeSchema(parameter.getSchema(), new HashSet<>());
+                Schema newSchema = normalizeSchema(parameter.getSchema(), newVisitedSchemas());
                 parameter.setSchema(newSchema);
             }
         }
@@ -489,7 +536,7 @@ public class OpenAPINormalizer {
 
         for (String headerKey : headers.keySet()) {
             Header h = headers.get(headerKey);
-            Schema updatedHeader = normalizeSchema(h.getSchema(), new HashSet<>());
+            Schema updatedHeader = normalizeSchema(h.getSchema(), newVisitedSchemas());
             h.setSchema(updatedHeader);
         }
     }
@@ -520,7 +567,7 @@ public class OpenAPINormalizer {
                 fixSelfReferenceSchema(schemaName, schema);
 
                 // normalize the schemas
-                schemas.put(schemaName, normalizeSchema(schema, new HashSet<>()));
+                schemas.put(schemaName, normalizeSchema(schema, newVisitedSchemas()));
             }
         }
     }
@@ -588,11 +635,22 @@ public class OpenAPINormalizer {
         }
     }
 
+    /**
+     * Creates an empty set of visited schemas for {@link #normalizeSchema(Schema, Set)}.
+     * Schemas are compared by identity: equal but distinct schemas are normalized independently, and there's no
+     * need to compute the (deep) hash code of a schema.
+     *
+     * @return an empty set of visited schemas
+     */
+    public static Set<Schema> newVisitedSchemas() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
     /**
      * Normalizes a schema
      *
      * @param schema         Schema
-     * @param visitedSchemas a set of visited schemas
+     * @param visitedSchemas a set of visited schemas, see {@link #newVisitedSchemas()}
      * @return Schema
      */
     public Schema normalizeSchema(Schema schema, Set<Schema> visitedSchemas) {
@@ -668,27 +726,27 @@ public class OpenAPINormalizer {
     }
 
     private Schema normalizeArraySchema(Schema schema) {
-        Schema result = processNormalize31Spec(schema, new HashSet<>());
-        return processSetArraytoNullable(result);
+        Schema result = applyRule(NORMALIZE_31SPEC, s -> processNormalize31Spec(s, newVisitedSchemas()), schema);
+        return applyRule(SET_CONTAINER_TO_NULLABLE, this::processSetArraytoNullable, result);
     }
 
     private Schema normalizeMapSchema(Schema schema) {
-        return processSetMapToNullable(schema);
+        return applyRule(SET_CONTAINER_TO_NULLABLE, this::processSetMapToNullable, schema);
     }
 
     private Schema normalizeSimpleSchema(Schema schema, Set<Schema> visitedSchemas) {
-        Schema result = processNormalize31Spec(schema, visitedSchemas);
-        return processSetPrimitiveTypesToNullable(result);
+        Schema result = applyRule(NORMALIZE_31SPEC, s -> processNormalize31Spec(s, visitedSchemas), schema);
+        return applyRule(SET_PRIMITIVE_TYPES_TO_NULLABLE, this::processSetPrimitiveTypesToNullable, result);
     }
 
     private void normalizeBooleanSchema(Schema schema, Set<Schema> visitedSchemas) {
-        processSimplifyBooleanEnum(schema);
-        processSetPrimitiveTypesToNullable(schema);
+        runRule(SIMPLIFY_BOOLEAN_ENUM, this::processSimplifyBooleanEnum, schema);
+        applyRule(SET_PRIMITIVE_TYPES_TO_NULLABLE, this::processSetPrimitiveTypesToNullable, schema);
     }
 
     private void normalizeIntegerSchema(Schema schema, Set<Schema> visitedSchemas) {
-        processAddUnsignedToIntegerWithInvalidMaxValue(schema);
-        processSetPrimitiveTypesToNullable(schema);
+        runRule(ADD_UNSIGNED_TO_INTEGER_WITH_INVALID_MAX_VALUE, this::processAddUnsignedToIntegerWithInvalidMaxValue, schema);
+        applyRule(SET_PRIMITIVE_TYPES_TO_NULLABLE, this::processSetPrimitiveTypesToNullable, schema);
     }
 
     private void normalizeProperties(Map<String, Schema> properties, Set<Schema> visitedSchemas) {
@@ -697,7 +755,7 @@ public class OpenAPINormalizer {
         }
         for (Map.Entry<String, Schema> propertiesEntry : properties.entrySet()) {
             Schema property = propertiesEntry.getValue();
-            Schema newProperty = normalizeSchema(property, new HashSet<>());
+            Schema newProperty = normalizeSchema(property, newVisitedSchemas());
             propertiesEntry.setValue(newProperty);
         }
     }
@@ -746,7 +804,7 @@ public class OpenAPINormalizer {
         }
 
         // process rules here
-        processUseAllOfRefAsParent(schema);
+        runRule(REF_AS_PARENT_IN_ALLOF, this::processUseAllOfRefAsParent, schema);
 
         return schema;
     }
@@ -759,7 +817,7 @@ public class OpenAPINormalizer {
         }
 
         // process rule to refactor properties into allOf sub-schema
-        schema = processRefactorAllOfWithPropertiesOnly(schema);
+        schema = applyRule(REFACTOR_ALLOF_WITH_PROPERTIES_ONLY, this::processRefactorAllOfWithPropertiesOnly, schema);
 
         for (Object item : schema.getAllOf()) {
             if (!(item instanceof Schema)) {
@@ -773,8 +831,9 @@ public class OpenAPINormalizer {
     }
 
     private Schema normalizeOneOf(Schema schema, Set<Schema> visitedSchemas) {
+        Schema original = schema;
         // simplify first as the schema may no longer be a oneOf after processing the rule below
-        schema = processSimplifyOneOf(schema);
+        schema = applyRule(SIMPLIFY_ONEOF_ANYOF, this::processSimplifyOneOf, schema);
 
         // if it's still a oneOf, loop through the sub-schemas
         if (schema.getOneOf() != null) {
@@ -794,6 +853,9 @@ public class OpenAPINormalizer {
             }
         } else {
             // normalize it as it's no longer an oneOf
+            if (schema == original) {
+                visitedSchemas.remove(schema);
+            }
             schema = normalizeSchema(schema, visitedSchemas);
         }
 
@@ -801,6 +863,7 @@ public class OpenAPINormalizer {
     }
 
     private Schema normalizeAnyOf(Schema schema, Set<Schema> visitedSchemas) {
+        Schema original = schema;
         for (int i = 0; i < schema.getAnyOf().size(); i++) {
             // normalize anyOf sub schemas one by one
             Object item = schema.getAnyOf().get(i);
@@ -818,10 +881,18 @@ public class OpenAPINormalizer {
         }
 
         // process rules here
-        schema = processSimplifyAnyOf(schema);
+        schema = applyRule(SIMPLIFY_ONEOF_ANYOF, this::processSimplifyAnyOf, schema);
 
         // last rule to process as the schema may become String schema (not "anyOf") after the completion
-        return normalizeSchema(processSimplifyAnyOfStringAndEnumString(schema), visitedSchemas);
+        schema = applyRule(SIMPLIFY_ANYOF_STRING_AND_ENUM_STRING, this::processSimplifyAnyOfStringAndEnumString, schema);
+        if (schema == original) {
+            if (ModelUtils.hasAnyOf(schema)) {
+                return schema;
+            }
+            // normalize it again as it's no longer an anyOf
+            visitedSchemas.remove(schema);
+        }
+        return normalizeSchema(schema, visitedSchemas);
     }
 
     private Schema normalizeComplexComposedSchema(Schema schema, Set<Schema> visitedSchemas) {
@@ -830,7 +901,7 @@ public class OpenAPINormalizer {
             normalizeProperties(schema.getProperties(), visitedSchemas);
         }
 
-        processRemoveAnyOfOneOfAndKeepPropertiesOnly(schema);
+        runRule(REMOVE_ANYOF_ONEOF_AND_KEEP_PROPERTIES_ONLY, this::processRemoveAnyOfOneOfAndKeepPropertiesOnly, schema);
 
         return normalizeSchema(schema, visitedSchemas);
     }
@@ -1330,7 +1401,7 @@ public class OpenAPINormalizer {
 
         // at this point the schema becomes a simple allOf (no properties) with an additional schema containing
         // the properties. Normalize it before returning.
-        return normalizeSchema(schema, new HashSet<>());
+        return normalizeSchema(schema, newVisitedSchemas());
     }
 
     /**
@@ -1443,4 +1514,30 @@ public class OpenAPINormalizer {
     }
 
     // ===================== end of rules =====================
+
+    /**
+     * The number of invocations of a rule and the time spent in them.
+     */
+    public static final class RuleTiming {
+        private long invocations;
+        private long nanos;
+
+        private void record(long elapsedNanos) {
+            invocations++;
+            nanos += elapsedNanos;
+        }
+
+        public long getInvocations() {
+            return invocations;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        @Override
+        public String toString() {
+            return invocations + " invocation(s) in " + TimeUnit.NANOSECONDS.toMillis(nanos) + " ms";
+        }
+    }
 }
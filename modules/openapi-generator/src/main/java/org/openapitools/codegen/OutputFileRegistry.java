@@ -0,0 +1,54 @@
+package org.openapitools.codegen;
+
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the output files of a generation run along with the template (and model or API) which produced them,
+ * in order to detect output paths which collide, including paths which only differ by case.
+ * <p>
+ * Paths are indexed by their normalized, case-folded form, so registering a path is constant time
+ * and safe to do from several rendering threads at once.
+ */
+class OutputFileRegistry {
+    private final Map<String, OutputFile> outputFiles = new ConcurrentHashMap<>();
+
+    /**
+     * Registers an output file.
+     *
+     * @param path   The absolute path of the output file
+     * @param origin A description of what produced the file (e.g. the template and model name)
+     * @return The previously registered output file whose path equals {@code path} ignoring case, or null if there is none
+     */
+    OutputFile register(Path path, String origin) {
+        OutputFile outputFile = new OutputFile(path, origin);
+        return outputFiles.putIfAbsent(path.normalize().toString().toLowerCase(Locale.ROOT), outputFile);
+    }
+
+    /**
+     * @return The number of distinct (case-insensitive) output paths registered
+     */
+    int size() {
+        return outputFiles.size();
+    }
+
+    /**
+     * An output file and what produced it.
+     */
+    static final class OutputFile {
+        final Path path;
+        final String origin;
+
+        OutputFile(Path path, String origin) {
+            this.path = path;
+            this.origin = origin;
+        }
+
+        @Override
+        public String toString() {
+            return path + " (from " + origin + ")";
+        }
+    }
+}
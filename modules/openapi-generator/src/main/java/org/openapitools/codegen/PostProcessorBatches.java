@@ -0,0 +1,163 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Collects the files to post-process by post-processor command, and runs each command once per batch of files
+ * instead of once per file.
+ * <p>
+ * A command gets the files of a batch as its last arguments, so it must accept several files. A batch is run
+ * as soon as it holds {@code batchSize} files or adding a file would make the command line longer than
+ * {@code maxCommandLength}; batches run on a bounded pool of worker threads so that generation continues
+ * meanwhile. {@link #await()} runs the remaining (partial) batches, waits for all of them to complete and releases the
+ * worker threads; it must be called exactly once, after the last file has been added.
+ * <p>
+ * This class is thread-safe.
+ */
+class PostProcessorBatches {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostProcessorBatches.class);
+
+    private final int batchSize;
+    private final int maxCommandLength;
+    private final Predicate<String> runner;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, Batch> pending = new LinkedHashMap<>();
+    private final List<Future<Boolean>> submitted = new ArrayList<>();
+
+    /**
+     * @param batchSize        The maximum number of files per command
+     * @param maxCommandLength The maximum length of a command line, including the files
+     * @param threads          The number of batches run at the same time
+     * @param runner           Runs a command line, returning whether it succeeded
+     */
+    PostProcessorBatches(int batchSize, int maxCommandLength, int threads, Predicate<String> runner) {
+        this.batchSize = batchSize;
+        this.maxCommandLength = maxCommandLength;
+        this.runner = runner;
+        AtomicInteger threadCount = new AtomicInteger();
+        // when all workers are busy and the queue is full, the thread adding a file runs the batch itself
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * 2),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "post-processor-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Adds a file to the batch of a command.
+     *
+     * @param command The command, without the file
+     * @param file    The file to post-process
+     */
+    void add(String command, String file) {
+        List<Batch> complete = new ArrayList<>(2);
+        synchronized (this) {
+            Batch batch = pending.get(command);
+            if (batch != null && batch.length + 1 + file.length() > maxCommandLength) {
+                complete.add(pending.remove(command));
+                batch = null;
+            }
+            if (batch == null) {
+                batch = new Batch(command);
+                pending.put(command, batch);
+            }
+            batch.add(file);
+            if (batch.files.size() >= batchSize) {
+                complete.add(pending.remove(command));
+            }
+        }
+        complete.forEach(this::submit);
+    }
+
+    private void submit(Batch batch) {
+        Future<Boolean> future = executor.submit(() -> runner.test(batch.commandLine()));
+        synchronized (this) {
+            submitted.add(future);
+        }
+    }
+
+    /**
+     * Runs the batches which aren't full yet, waits for all batches to complete and shuts down the worker threads.
+     *
+     * @return true if all commands succeeded
+     */
+    boolean await() {
+        List<Batch> remaining;
+        synchronized (this) {
+            remaining = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+        remaining.forEach(this::submit);
+
+        List<Future<Boolean>> futures;
+        synchronized (this) {
+            futures = new ArrayList<>(submitted);
+            submitted.clear();
+        }
+        boolean succeeded = true;
+        try {
+            for (Future<Boolean> future : futures) {
+                try {
+                    succeeded &= future.get();
+                } catch (ExecutionException e) {
+                    LOGGER.error("Error post-processing files: {}", e.getCause().getMessage());
+                    succeeded = false;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            succeeded = false;
+        } finally {
+            executor.shutdownNow();
+        }
+        return succeeded;
+    }
+
+    /**
+     * The files to post-process with one command.
+     */
+    private static final class Batch {
+        final String command;
+        final List<String> files = new ArrayList<>();
+        int length;
+
+        Batch(String command) {
+            this.command = command;
+            this.length = command.length();
+        }
+
+        void add(String file) {
+            files.add(file);
+            length += 1 + file.length();
+        }
+
+        String commandLine() {
+            return command + " " + String.join(" ", files);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+
+/**
+ * A 128-bit digest of the structure of a schema.
+ * <p>
+ * The digest is computed while the schema is serialized by a mapper with a canonical property order, without
+ * building the serialized document, so two schemas have the same fingerprint when they'd have the same
+ * serialized form. Instances are immutable and suitable as hash map keys.
+ */
+final class SchemaFingerprint {
+    private final long high;
+    private final long low;
+
+    private SchemaFingerprint(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Computes the fingerprint of a schema.
+     *
+     * @param mapper The mapper used to serialize the schema, which defines which schemas are structurally equal
+     * @param schema The schema
+     * @return The fingerprint of the schema
+     * @throws IOException if the schema can't be serialized
+     */
+    static SchemaFingerprint of(ObjectMapper mapper, Schema schema) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is not supported", e);
+        }
+        try (OutputStream out = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+            mapper.writeValue(out, schema);
+        }
+        ByteBuffer hash = ByteBuffer.wrap(digest.digest());
+        return new SchemaFingerprint(hash.getLong(), hash.getLong());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SchemaFingerprint)) return false;
+        SchemaFingerprint that = (SchemaFingerprint) o;
+        return high == that.high && low == that.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(high) * 31 + Long.hashCode(low);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%016x%016x", high, low);
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.openapitools.codegen.model.LayeredContextMap;
+import org.openapitools.codegen.utils.ObjectGraphCopier;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Computes a SHA-256 digest of the data a template is rendered with, so that a file can be left as is when it would be
+ * rendered from the same data as in a previous run.
+ * <p>
+ * The digest covers the values of the data: strings, numbers, maps, collections, and the fields of the codegen and
+ * OpenAPI model objects, following references to objects already visited by their position. Other objects, such as
+ * the template lambdas and the generator itself, are only identified by their class. The entries of
+ * {@link #EXCLUDED_KEYS} at the root of the data are ignored, since they differ on each run without the file being
+ * any different otherwise, along with those of the {@link LayeredContextMap} it contains.
+ * <p>
+ * The data of a {@link LayeredContextMap} includes the entries it inherits. The digest of some data is computed once,
+ * for all the templates rendered with it, so the data must not change in between.
+ */
+final class TemplateDataFingerprint {
+    static final Set<String> EXCLUDED_KEYS = Set.of("generatedDate");
+
+    private static final ClassValue<Boolean> HAS_VALUE_STRING = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("toString").getDeclaringClass() != Object.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    private final Cache<Map<String, Object>, byte[]> digests = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumSize(64)
+            .build();
+
+    /**
+     * @param data The data of a template
+     * @return The digest of the data
+     */
+    byte[] of(Map<String, Object> data) {
+        byte[] digest = digests.getIfPresent(data);
+        if (digest == null) {
+            Digester digester = new Digester();
+            digester.writeContext(data);
+            digest = digester.digest.digest();
+            digests.put(data, digest);
+        }
+        return digest;
+    }
+
+    private static boolean isData(Class<?> type) {
+        String name = type.getName();
+        return (name.startsWith("org.openapitools.codegen.") || name.startsWith("io.swagger.v3.oas.models."))
+                && !CodegenConfig.class.isAssignableFrom(type)
+                && !name.startsWith("org.openapitools.codegen.templating.");
+    }
+
+    private static final class Digester {
+        private final MessageDigest digest;
+        private final Map<Object, Integer> visited = new IdentityHashMap<>();
+
+        Digester() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not supported", e);
+            }
+        }
+
+        void writeContext(Map<String, Object> data) {
+            writeEntries(data);
+            if (data instanceof LayeredContextMap) {
+                writeEntries(((LayeredContextMap) data).getInherited());
+            }
+        }
+
+        private void writeEntries(Map<String, Object> data) {
+            for (Map.Entry<String, Object> entry : data.entrySet()) {
+                if (!EXCLUDED_KEYS.contains(entry.getKey())) {
+                    writeString(entry.getKey());
+                    write(entry.getValue());
+                }
+            }
+        }
+
+        void write(Object value) {
+            if (value == null) {
+                digest.update((byte) 'n');
+                return;
+            }
+            if (value instanceof CharSequence) {
+                writeString(value.toString());
+                return;
+            }
+            Class<?> type = value.getClass();
+            if (value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof Enum) {
+                digest.update((byte) 'v');
+                writeString(type.getName());
+                writeString(value.toString());
+                return;
+            }
+
+            Integer position = visited.get(value);
+            if (position != null) {
+                digest.update((byte) 'r');
+                writeInt(position);
+                return;
+            }
+            visited.put(value, visited.size());
+
+            if (value instanceof LayeredContextMap) {
+                // the contexts of the models, APIs and webhooks of the supporting files bundle
+                digest.update((byte) 'x');
+                writeContext((LayeredContextMap) value);
+                digest.update((byte) 'e');
+            } else if (value instanceof JsonNode) {
+                digest.update((byte) 'j');
+                writeString(value.toString());
+            } else if (value instanceof Map) {
+                digest.update((byte) 'm');
+                writeInt(((Map<?, ?>) value).size());
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    write(entry.getKey());
+                    write(entry.getValue());
+                }
+            } else if (value instanceof Iterable) {
+                digest.update((byte) 'l');
+                for (Object element : (Iterable<?>) value) {
+                    write(element);
+                }
+                digest.update((byte) 'e');
+            } else if (type.isArray()) {
+                digest.update((byte) 'a');
+                int length = Array.getLength(value);
+                writeInt(length);
+                for (int i = 0; i < length; i++) {
+                    write(Array.get(value, i));
+                }
+            } else if (isData(type) && !type.isSynthetic()) {
+                digest.update((byte) 'o');
+                writeString(type.getName());
+                for (MethodHandle getter : ObjectGraphCopier.stateGetters(type)) {
+                    write(get(getter, value));
+                }
+            } else if (type.isSynthetic()) {
+                // the names of the classes of lambda expressions differ from one run to another
+                digest.update((byte) 'c');
+                for (Class<?> implemented : type.getInterfaces()) {
+                    writeString(implemented.getName());
+                }
+            } else if (type.getName().startsWith("java.") && HAS_VALUE_STRING.get(type)) {
+                digest.update((byte) 'v');
+                writeString(type.getName());
+                writeString(value.toString());
+            } else {
+                digest.update((byte) 'c');
+                writeString(type.getName());
+            }
+        }
+
+        private static Object get(MethodHandle getter, Object value) {
+            try {
+                return getter.invoke(value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Unable to read a field of " + value.getClass().getName(), e);
+            }
+        }
+
+        private void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            digest.update((byte) 's');
+            writeInt(bytes.length);
+            digest.update(bytes);
+        }
+
+        private void writeInt(int value) {
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(value).array());
+        }
+    }
+}
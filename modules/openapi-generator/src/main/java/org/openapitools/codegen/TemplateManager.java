@@ -26,6 +26,7 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
     private final TemplatePathLocator[] templateLoaders;
 
     private final Logger LOGGER = LoggerFactory.getLogger(TemplateManager.class);
+    private static final int COMPARE_BUFFER_SIZE = 64 * 1024;
 
     /**
      * Constructs a new instance of a {@link TemplateManager}
@@ -212,25 +213,11 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
         File outputFile = Paths.get(filename).toFile();
 
         if (this.options.isMinimalUpdate()) {
-            String tempFilename = filename + ".tmp";
-            File tempFile = null;
-            try {
-                tempFile = writeToFileRaw(tempFilename, contents);
-                if (!filesEqual(tempFile, outputFile)) {
-                    LOGGER.info("writing file {}", filename);
-                    Files.move(tempFile.toPath(), outputFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
-                    tempFile = null;
-                } else {
-                    LOGGER.info("skipping unchanged file {}", filename);
-                }
-            } finally {
-                if (tempFile != null && tempFile.exists()) {
-                    try {
-                        Files.delete(tempFile.toPath());
-                    } catch (Exception ex) {
-                        LOGGER.error("Error removing temporary file {}", tempFile, ex);
-                    }
-                }
+            if (contentEquals(outputFile.toPath(), contents)) {
+                LOGGER.info("skipping unchanged file {}", filename);
+            } else {
+                LOGGER.info("writing file {}", filename);
+                replaceFile(outputFile.toPath(), contents);
             }
         } else {
             LOGGER.info("writing file {}", filename);
@@ -257,7 +244,52 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
         return output;
     }
 
-    private boolean filesEqual(File file1, File file2) throws IOException {
-        return file1.exists() && file2.exists() && Arrays.equals(Files.readAllBytes(file1.toPath()), Files.readAllBytes(file2.toPath()));
+    /**
+     * Compares the contents of a file with the given bytes, reading the file in chunks and only if it has the same
+     * size.
+     */
+    private static boolean contentEquals(Path path, byte[] contents) throws IOException {
+        if (!Files.isRegularFile(path) || Files.size(path) != contents.length) {
+            return false;
+        }
+        byte[] buffer = new byte[Math.min(COMPARE_BUFFER_SIZE, contents.length + 1)];
+        try (InputStream in = Files.newInputStream(path)) {
+            int offset = 0;
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                if (offset + read > contents.length
+                        || !Arrays.equals(buffer, 0, read, contents, offset, offset + read)) {
+                    return false;
+                }
+                offset += read;
+            }
+            return offset == contents.length;
+        }
+    }
+
+    /**
+     * Writes the contents to a temporary file next to the target and renames it over the target, so that the target
+     * is never left partially written.
+     */
+    private void replaceFile(Path path, byte[] contents) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tempFile = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            Files.write(tempFile, contents);
+            try {
+                Files.move(tempFile, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException ex) {
+                LOGGER.error("Error removing temporary file {}", tempFile, ex);
+            }
+        }
     }
 }
@@ -85,6 +85,8 @@ public class CodegenConfigurator {
 
     private List<TemplateDefinition> userDefinedTemplates = new ArrayList<>();
 
+    private SpecParser specParser = (spec, authorizationValues, options) -> new OpenAPIParser().readLocation(spec, authorizationValues, options);
+
     public CodegenConfigurator() {
 
     }
@@ -638,6 +640,17 @@ public class CodegenConfigurator {
         return this;
     }
 
+    /**
+     * Sets how the input specification is read, e.g. to share it between configurators with a {@link SharedSpecParser}.
+     *
+     * @param specParser The parser of the input specification
+     * @return this configurator
+     */
+    public CodegenConfigurator setSpecParser(SpecParser specParser) {
+        this.specParser = specParser;
+        return this;
+    }
+
     @SuppressWarnings("WeakerAccess")
     public Context<?> toContext() {
         Validate.notEmpty(generatorName, "generator name must be specified");
@@ -679,11 +692,10 @@ public class CodegenConfigurator {
         // if caller resets GlobalSettings, we'll need to reset generateAliasAsModel. As noted in this method, this should be moved.
         ModelUtils.setGenerateAliasAsModel(workflowSettings.isGenerateAliasAsModel());
 
-        // TODO: Support custom spec loader implementations (https://github.com/OpenAPITools/openapi-generator/issues/844)
         final List<AuthorizationValue> authorizationValues = AuthParser.parse(this.auth);
         ParseOptions options = new ParseOptions();
         options.setResolve(true);
-        SwaggerParseResult result = new OpenAPIParser().readLocation(inputSpec, authorizationValues, options);
+        SwaggerParseResult result = specParser.parse(inputSpec, authorizationValues, options);
 
         // TODO: Move custom validations to a separate type as part of a "Workflow"
         Set<String> validationMessages = new HashSet<>(null != result.getMessages() ? result.getMessages() : new ArrayList<>());
@@ -29,7 +29,8 @@ import java.util.Properties;
  * with Code, that uses System.setProperties (e.g. maven-surefire-plugin).
  *
  * This provides a set of properties specific to the executing thread, such that the generator may not modify system properties
- * consumed by other threads.
+ * consumed by other threads. A thread started by another one starts with a copy of its properties, so that neither of
+ * them sees the properties the other one sets afterwards.
  *
  * @author gndrm
  * @since 2018
@@ -46,6 +47,13 @@ public class GlobalSettings {
             copy.putAll(System.getProperties());
             return copy;
         }
+
+        @Override
+        protected Properties childValue(Properties parentValue) {
+            Properties copy = new Properties();
+            copy.putAll(parentValue);
+            return copy;
+        }
     };
 
     public static String getProperty(String key, String defaultValue) {
@@ -9,19 +9,29 @@ import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
 
 import io.swagger.parser.OpenAPIParser;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -31,6 +41,10 @@ public class MergedSpecBuilder {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MergedSpecBuilder.class);
 
+    private static final String MANIFEST_SUFFIX = ".manifest.json";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final JsonFactory YAML_FACTORY = new YAMLFactory();
+
     private final String inputSpecRootDirectory;
     private final String mergeFileName;
 
@@ -47,31 +61,24 @@ public class MergedSpecBuilder {
         }
         LOGGER.info("In spec root directory {} found specs {}", inputSpecRootDirectory, specRelatedPaths);
 
+        List<SpecWithPaths> specs = readSpecs(specRelatedPaths, readManifest());
+        writeManifest(specs);
+
         String openapiVersion = null;
         boolean isJson = false;
-        ParseOptions options = new ParseOptions();
-        options.setResolve(true);
         List<SpecWithPaths> allPaths = new ArrayList<>();
 
-        for (String specRelatedPath : specRelatedPaths) {
-            String specPath = inputSpecRootDirectory + File.separator + specRelatedPath;
-            try {
-                LOGGER.info("Reading spec: {}", specPath);
-
-                OpenAPI result = new OpenAPIParser()
-                    .readLocation(specPath, new ArrayList<>(), options)
-                    .getOpenAPI();
-
-                if (openapiVersion == null) {
-                    openapiVersion = result.getOpenapi();
-                    if (specRelatedPath.toLowerCase(Locale.ROOT).endsWith(".json")) {
-                        isJson = true;
-                    }
+        for (SpecWithPaths spec : specs) {
+            if (spec.paths == null) {
+                continue;
+            }
+            if (openapiVersion == null) {
+                openapiVersion = spec.openapiVersion;
+                if (spec.specRelatedPath.toLowerCase(Locale.ROOT).endsWith(".json")) {
+                    isJson = true;
                 }
-                allPaths.add(new SpecWithPaths(specRelatedPath, result.getPaths().keySet()));
-            } catch (Exception e) {
-                LOGGER.error("Failed to read file: {}. It would be ignored", specPath);
             }
+            allPaths.add(spec);
         }
 
         Map<String, Object> mergedSpec = generatedMergedSpec(openapiVersion, allPaths);
@@ -88,6 +95,164 @@ public class MergedSpecBuilder {
         return mergedFilePath.toString();
     }
 
+    /**
+     * Reads the OpenAPI version and the paths of the specs, in parallel. The specs which haven't changed since the
+     * previous run, according to the manifest of that run, aren't read again.
+     */
+    private List<SpecWithPaths> readSpecs(List<String> specRelatedPaths, Map<String, SpecWithPaths> manifest) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(specRelatedPaths.size(), Runtime.getRuntime().availableProcessors())));
+        try {
+            List<Future<SpecWithPaths>> futures = new ArrayList<>();
+            for (String specRelatedPath : specRelatedPaths) {
+                futures.add(executor.submit(() -> readSpec(specRelatedPath, manifest.get(specRelatedPath))));
+            }
+            List<SpecWithPaths> specs = new ArrayList<>();
+            for (Future<SpecWithPaths> future : futures) {
+                specs.add(future.get());
+            }
+            return specs;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while reading specs in " + inputSpecRootDirectory, e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Exception while reading specs in " + inputSpecRootDirectory, e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private SpecWithPaths readSpec(String specRelatedPath, SpecWithPaths previous) {
+        String specPath = inputSpecRootDirectory + File.separator + specRelatedPath;
+        byte[] content;
+        try {
+            content = Files.readAllBytes(Paths.get(specPath));
+        } catch (IOException e) {
+            LOGGER.error("Failed to read file: {}. It would be ignored", specPath);
+            return new SpecWithPaths(specRelatedPath, null, null, null);
+        }
+
+        String sha256 = Hashing.sha256().hashBytes(content).toString();
+        if (previous != null && sha256.equals(previous.sha256)) {
+            LOGGER.debug("Spec unchanged since the previous run: {}", specPath);
+            return previous;
+        }
+
+        LOGGER.info("Reading spec: {}", specPath);
+        JsonFactory factory = specRelatedPath.toLowerCase(Locale.ROOT).endsWith(".json") ? JSON_FACTORY : YAML_FACTORY;
+        try (JsonParser parser = factory.createParser(content)) {
+            SpecWithPaths spec = scanSpec(specRelatedPath, sha256, parser);
+            if (spec == null) {
+                // e.g. a Swagger 2.0 fragment, which the parser converts
+                LOGGER.debug("No openapi version in {}, parsing it", specPath);
+                spec = parseSpec(specRelatedPath, sha256, specPath);
+            }
+            if (spec.paths == null) {
+                LOGGER.error("Failed to read file: {}. It would be ignored", specPath);
+            }
+            return spec;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("Failed to read file: {}. It would be ignored", specPath);
+            return new SpecWithPaths(specRelatedPath, sha256, null, null);
+        }
+    }
+
+    /**
+     * Reads the OpenAPI version and the paths of a spec, skipping everything else, without building the document.
+     *
+     * @return The version and paths, or null if the spec has no top-level openapi version and must be parsed instead
+     */
+    private static SpecWithPaths scanSpec(String specRelatedPath, String sha256, JsonParser parser) throws IOException {
+        String openapiVersion = null;
+        List<String> paths = null;
+        if (parser.nextToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME && (openapiVersion == null || paths == null)) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("openapi".equals(field) && value.isScalarValue()) {
+                    openapiVersion = parser.getValueAsString();
+                } else if ("paths".equals(field) && value == JsonToken.START_OBJECT) {
+                    paths = new ArrayList<>();
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        paths.add(parser.currentName());
+                        parser.nextToken();
+                        parser.skipChildren();
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (openapiVersion == null) {
+                return null;
+            }
+        }
+        return new SpecWithPaths(specRelatedPath, sha256, openapiVersion, paths);
+    }
+
+    /**
+     * Reads the OpenAPI version and the paths of a spec by parsing it, converting it to OpenAPI 3 if needed.
+     */
+    private static SpecWithPaths parseSpec(String specRelatedPath, String sha256, String specPath) {
+        ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        OpenAPI openAPI = new OpenAPIParser().readLocation(specPath, new ArrayList<>(), options).getOpenAPI();
+        if (openAPI == null || openAPI.getPaths() == null) {
+            return new SpecWithPaths(specRelatedPath, sha256, null, null);
+        }
+        return new SpecWithPaths(specRelatedPath, sha256, openAPI.getOpenapi(), new ArrayList<>(openAPI.getPaths().keySet()));
+    }
+
+    private Map<String, SpecWithPaths> readManifest() {
+        Path manifestPath = getManifestPath();
+        Map<String, SpecWithPaths> manifest = new HashMap<>();
+        if (!Files.exists(manifestPath)) {
+            return manifest;
+        }
+        try {
+            JsonNode specs = new ObjectMapper().readTree(manifestPath.toFile()).path("specs");
+            for (Iterator<Map.Entry<String, JsonNode>> it = specs.fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> entry = it.next();
+                JsonNode spec = entry.getValue();
+                List<String> paths = null;
+                if (spec.path("paths").isArray()) {
+                    paths = new ArrayList<>();
+                    for (JsonNode path : spec.path("paths")) {
+                        paths.add(path.asText());
+                    }
+                }
+                manifest.put(entry.getKey(), new SpecWithPaths(entry.getKey(), spec.path("sha256").asText(null),
+                    spec.path("openapi").asText(null), paths));
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Failed to read the manifest of the previous merge: {}. All specs will be read", manifestPath);
+            manifest.clear();
+        }
+        return manifest;
+    }
+
+    private void writeManifest(List<SpecWithPaths> specs) {
+        Map<String, Object> manifest = new LinkedHashMap<>();
+        for (SpecWithPaths spec : specs) {
+            if (spec.sha256 == null) {
+                continue;
+            }
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("sha256", spec.sha256);
+            entry.put("openapi", spec.openapiVersion);
+            entry.put("paths", spec.paths);
+            manifest.put(spec.specRelatedPath, entry);
+        }
+        try {
+            new ObjectMapper().writerWithDefaultPrettyPrinter()
+                .writeValue(getManifestPath().toFile(), Collections.singletonMap("specs", manifest));
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write the manifest of the merge: {}", getManifestPath(), e);
+        }
+    }
+
+    private Path getManifestPath() {
+        return Paths.get(inputSpecRootDirectory, mergeFileName + MANIFEST_SUFFIX);
+    }
+
     private static Map<String, Object> generatedMergedSpec(String openapiVersion, List<SpecWithPaths> allPaths) {
         Map<String, Object> spec = generateHeader(openapiVersion);
         Map<String, Object> paths = new HashMap<>();
@@ -124,6 +289,7 @@ public class MergedSpecBuilder {
         try (Stream<Path> pathStream = Files.walk(rootDirectory)) {
             return pathStream
                 .filter(path -> !Files.isDirectory(path))
+                .filter(path -> !path.equals(rootDirectory.resolve(mergeFileName + MANIFEST_SUFFIX)))
                 .map(path -> rootDirectory.relativize(path).toString())
                 .collect(Collectors.toList());
         } catch (IOException e) {
@@ -142,10 +308,15 @@ public class MergedSpecBuilder {
 
     private static class SpecWithPaths {
         private final String specRelatedPath;
-        private final Set<String> paths;
+        private final String sha256;
+        private final String openapiVersion;
+        // null when the file isn't a spec
+        private final List<String> paths;
 
-        private SpecWithPaths(final String specRelatedPath, final Set<String> paths) {
+        private SpecWithPaths(final String specRelatedPath, final String sha256, final String openapiVersion, final List<String> paths) {
             this.specRelatedPath = specRelatedPath;
+            this.sha256 = sha256;
+            this.openapiVersion = openapiVersion;
             this.paths = paths;
         }
     }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.config;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openapitools.codegen.utils.ObjectGraphCopier;
+
+/**
+ * Copies an {@link OpenAPI} document, so that the copy can be given to a generator, which modifies it, independently of
+ * the original.
+ * <p>
+ * The model objects are copied field by field, along with the lists, sets, maps, JSON nodes and dates they hold,
+ * keeping objects shared within the document (e.g. by the parser's reference resolution) shared within the copy.
+ * Strings, numbers, enums and other immutable values are shared with the original. Unlike a round trip through the
+ * serialized document, the copy is exactly what the parser returned, e.g. the default values keep their types.
+ */
+public final class OpenAPICopier {
+    private static final String MODELS_PACKAGE = "io.swagger.v3.oas.models.";
+
+    private OpenAPICopier() {
+    }
+
+    /**
+     * @param openAPI The document to copy
+     * @return A copy of the document
+     * @throws IllegalStateException if the document can't be copied, e.g. because it holds a model without a
+     *                               no-argument constructor
+     */
+    public static OpenAPI copy(OpenAPI openAPI) {
+        return new ObjectGraphCopier(type -> type.getName().startsWith(MODELS_PACKAGE)).copy(openAPI);
+    }
+}
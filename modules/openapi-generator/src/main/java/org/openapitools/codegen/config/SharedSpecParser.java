@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.config;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.AuthorizationValue;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link SpecParser} reading each distinct specification once, for configurators generating from the same
+ * specification, e.g. in batch mode.
+ * <p>
+ * Generating code modifies the document it's given (normalization, inline model resolution, ...), so the first caller
+ * gets the parsed document and the others get copies of the document as it was parsed, along with the messages of the
+ * parser. This skips reading the specification and the documents it references, including remote ones, converting
+ * Swagger 2 specifications and resolving references. Specifications are identified by their location (the absolute
+ * path of files) and authorizations, and are expected to be parsed with the same options.
+ * <p>
+ * This class is thread-safe: a specification requested by several threads at once is parsed by the first one while the
+ * others wait for it.
+ */
+public class SharedSpecParser implements SpecParser {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedSpecParser.class);
+
+    private final Map<String, ParsedSpec> specs = new ConcurrentHashMap<>();
+
+    @Override
+    public SwaggerParseResult parse(String inputSpec, List<AuthorizationValue> authorizationValues, ParseOptions options) {
+        ParsedSpec spec = specs.computeIfAbsent(keyOf(inputSpec, authorizationValues), key -> new ParsedSpec());
+        return spec.get(inputSpec, authorizationValues, options);
+    }
+
+    private static String keyOf(String inputSpec, List<AuthorizationValue> authorizationValues) {
+        File file = new File(inputSpec);
+        StringBuilder key = new StringBuilder(file.isFile() ? file.getAbsoluteFile().toPath().normalize().toString() : inputSpec);
+        if (authorizationValues != null) {
+            for (AuthorizationValue authorizationValue : authorizationValues) {
+                key.append('\u0000').append(authorizationValue.getType())
+                        .append('\u0000').append(authorizationValue.getKeyName())
+                        .append('\u0000').append(authorizationValue.getValue());
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * A specification, parsed by the first caller.
+     */
+    private static final class ParsedSpec {
+        private boolean parsed;
+        private List<String> messages;
+        // a copy of the document as it was parsed
+        private OpenAPI openAPI;
+
+        SwaggerParseResult get(String inputSpec, List<AuthorizationValue> authorizationValues, ParseOptions options) {
+            SwaggerParseResult result = parseOnce(inputSpec, authorizationValues, options);
+            if (result != null) {
+                return result;
+            }
+
+            result = new SwaggerParseResult();
+            result.setMessages(messages == null ? null : new ArrayList<>(messages));
+            result.setOpenAPI(openAPI == null ? null : OpenAPICopier.copy(openAPI));
+            return result;
+        }
+
+        /**
+         * @return The parse result if this call parsed the specification, null if it was parsed already
+         */
+        private synchronized SwaggerParseResult parseOnce(String inputSpec, List<AuthorizationValue> authorizationValues, ParseOptions options) {
+            if (parsed) {
+                return null;
+            }
+            SwaggerParseResult result = new OpenAPIParser().readLocation(inputSpec, authorizationValues, options);
+            if (result.getOpenAPI() != null) {
+                try {
+                    openAPI = OpenAPICopier.copy(result.getOpenAPI());
+                } catch (IllegalStateException e) {
+                    // parses it again for the next caller
+                    LOGGER.warn("Unable to copy the specification {}: {}", inputSpec, e.getMessage());
+                    return result;
+                }
+            }
+            messages = result.getMessages() == null ? null : new ArrayList<>(result.getMessages());
+            parsed = true;
+            return result;
+        }
+    }
+}
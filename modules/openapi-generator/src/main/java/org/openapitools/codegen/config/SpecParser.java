@@ -0,0 +1,37 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.config;
+
+import io.swagger.v3.parser.core.models.AuthorizationValue;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+
+import java.util.List;
+
+/**
+ * Reads the input specification of a {@link CodegenConfigurator}.
+ */
+@FunctionalInterface
+public interface SpecParser {
+    /**
+     * @param inputSpec           The location of the specification, a path or a URL
+     * @param authorizationValues The authorizations used to read remote documents, or null
+     * @param options             The parse options
+     * @return The parse result, whose document the caller may modify
+     */
+    SwaggerParseResult parse(String inputSpec, List<AuthorizationValue> authorizationValues, ParseOptions options);
+}
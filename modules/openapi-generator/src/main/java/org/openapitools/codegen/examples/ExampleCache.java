@@ -0,0 +1,123 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.examples;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * The JSON and XML examples of models rendered by {@link ExampleGenerator}, shared by the example generators of a
+ * generation run so that the example of a model used by many operations is rendered once.
+ * <p>
+ * JSON examples are kept by the identity of the example object of the model they were rendered from, XML examples by
+ * the identity of the model's schema, as long as the names of the models it includes don't change. The cache holds up to a maximum total length of rendered examples, evicting the
+ * least recently used ones.
+ */
+public class ExampleCache {
+    /**
+     * The default maximum total length (in characters) of the cached examples.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 16L * 1024 * 1024;
+
+    private final Cache<Object, String> json;
+    private final Cache<Schema, XmlExample> xml;
+    private Map<String, Schema> schemas;
+
+    public ExampleCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * @param maximumSize The maximum total length (in characters) of the JSON examples, and of the XML examples
+     */
+    public ExampleCache(long maximumSize) {
+        this.json = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumWeight(maximumSize)
+                .<Object, String>weigher((example, rendered) -> rendered.length())
+                .build();
+        this.xml = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumWeight(maximumSize)
+                .<Schema, XmlExample>weigher((schema, rendered) -> rendered.xml.length())
+                .build();
+    }
+
+    /**
+     * Discards the XML examples when the models they were rendered with change.
+     */
+    synchronized void useSchemas(Map<String, Schema> schemas) {
+        if (this.schemas != schemas) {
+            this.schemas = schemas;
+            xml.invalidateAll();
+        }
+    }
+
+    String getJson(Object example, Function<Object, String> renderer) {
+        return json.get(example, renderer);
+    }
+
+    String getXml(Schema schema) {
+        XmlExample rendered = xml.getIfPresent(schema);
+        return rendered != null && rendered.isCurrent() ? rendered.xml : null;
+    }
+
+    void putXml(Schema schema, String rendered, List<Schema> models) {
+        xml.put(schema, new XmlExample(rendered, models));
+    }
+
+    /**
+     * @return The approximate number of cached JSON and XML examples
+     */
+    public long size() {
+        return json.estimatedSize() + xml.estimatedSize();
+    }
+
+    /**
+     * An XML example, along with the names of the models it was rendered with, which are used to break recursions and
+     * may be set while the operations are processed.
+     */
+    private static final class XmlExample {
+        private final String xml;
+        private final Schema[] models;
+        private final String[] names;
+
+        XmlExample(String xml, List<Schema> models) {
+            this.xml = xml;
+            this.models = models.toArray(new Schema[0]);
+            this.names = new String[this.models.length];
+            for (int i = 0; i < this.models.length; i++) {
+                this.names[i] = this.models[i].getName();
+            }
+        }
+
+        boolean isCurrent() {
+            for (int i = 0; i < models.length; i++) {
+                if (!Objects.equals(models[i].getName(), names[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -50,10 +50,22 @@ public class ExampleGenerator {
     protected Map<String, Schema> examples;
     private OpenAPI openAPI;
     private Random random;
+    private final ExampleCache cache;
 
     public ExampleGenerator(Map<String, Schema> examples, OpenAPI openAPI) {
+        this(examples, openAPI, new ExampleCache());
+    }
+
+    /**
+     * @param examples The schemas of the models
+     * @param openAPI  The specification
+     * @param cache    The rendered examples of the models, shared with the other example generators of the run
+     */
+    public ExampleGenerator(Map<String, Schema> examples, OpenAPI openAPI, ExampleCache cache) {
         this.examples = examples;
         this.openAPI = openAPI;
+        this.cache = cache;
+        cache.useSchemas(examples);
         // use a fixed seed to make the "random" numbers reproducible.
         this.random = new Random("ExampleGenerator".hashCode());
         dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
@@ -112,14 +124,15 @@ public class ExampleGenerator {
                 Map<String, String> kv = new HashMap<>();
                 kv.put(CONTENT_TYPE, mediaType);
                 if (property != null && (mediaType.startsWith(MIME_TYPE_JSON) || mediaType.contains("*/*"))) {
-                    String example = Json.pretty(resolvePropertyToExample("", mediaType, property, processedModels));
+                    String example = toJson(resolvePropertyToExample("", mediaType, property, processedModels), getReferencedSchema(property));
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         kv.put(GENERATED_CONTENT_TYPE, MIME_TYPE_JSON);
                         output.add(kv);
                     }
                 } else if (property != null && mediaType.startsWith(MIME_TYPE_XML)) {
-                    String example = new XmlExampleGenerator(this.examples).toXml(property);
+                    Schema schema = getReferencedSchema(property);
+                    String example = schema != null ? toXml(schema) : new XmlExampleGenerator(this.examples).toXml(property);
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         kv.put(GENERATED_CONTENT_TYPE, MIME_TYPE_XML);
@@ -158,7 +171,7 @@ public class ExampleGenerator {
                 if (modelName != null && (mediaType.startsWith(MIME_TYPE_JSON) || mediaType.contains("*/*"))) {
                     final Schema schema = this.examples.get(modelName);
                     if (schema != null) {
-                        String example = Json.pretty(resolveModelToExample(modelName, mediaType, schema, processedModels));
+                        String example = toJson(resolveModelToExample(modelName, mediaType, schema, processedModels), schema);
 
                         if (example != null) {
                             kv.put(EXAMPLE, example);
@@ -168,7 +181,7 @@ public class ExampleGenerator {
                     }
                 } else if (modelName != null && mediaType.startsWith(MIME_TYPE_XML)) {
                     final Schema schema = this.examples.get(modelName);
-                    String example = new XmlExampleGenerator(this.examples).toXml(schema, 0, Collections.emptySet());
+                    String example = schema != null ? toXml(schema) : new XmlExampleGenerator(this.examples).toXml(schema, 0, Collections.emptySet());
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         kv.put(GENERATED_CONTENT_TYPE, MIME_TYPE_XML);
@@ -225,6 +238,67 @@ public class ExampleGenerator {
         return output;
     }
 
+    /**
+     * Renders an example as JSON, reusing the rendering of a previous operation when the example is the one of a model.
+     *
+     * @param example The example
+     * @param model   The model the example may be the example of, or null
+     * @return The example as JSON
+     */
+    private String toJson(Object example, Schema model) {
+        if (example != null && model != null && example == model.getExample()) {
+            return cache.getJson(example, Json::pretty);
+        }
+        return Json.pretty(example);
+    }
+
+    /**
+     * Renders the XML example of a model, reusing the rendering of a previous operation unless it includes the example
+     * of a schema which may still be created by {@link #resolveModelToExample}, or the name of one of its models has
+     * changed since.
+     *
+     * @param model The model
+     * @return The XML example of the model
+     */
+    private String toXml(Schema model) {
+        String xml = cache.getXml(model);
+        if (xml == null) {
+            List<Schema> models = new ArrayList<>();
+            boolean[] cacheable = {true};
+            xml = new XmlExampleGenerator(this.examples) {
+                @Override
+                protected String modelImplToXml(Schema schema, int indent, Collection<String> path) {
+                    models.add(schema);
+                    return super.modelImplToXml(schema, indent, path);
+                }
+
+                @Override
+                protected String getExample(Schema schema) {
+                    if (schema.getProperties() != null || ModelUtils.isAllOf(schema) || ModelUtils.isAllOfWithProperties(schema)) {
+                        cacheable[0] = false;
+                    }
+                    return super.getExample(schema);
+                }
+            }.toXml(model, 0, Collections.emptySet());
+            if (xml != null && cacheable[0]) {
+                cache.putXml(model, xml, models);
+            }
+        }
+        return xml;
+    }
+
+    /**
+     * @param property A property
+     * @return The model the property refers to, or null if it isn't a reference to a model
+     */
+    private Schema getReferencedSchema(Schema property) {
+        if (this.examples == null || StringUtils.isEmpty(property.get$ref()) || ModelUtils.isArraySchema(property)
+                || this.examples.containsKey(property.get$ref())) {
+            return null;
+        }
+        return this.examples.get(ModelUtils.getSimpleRef(property.get$ref()));
+    }
+
     private Object resolvePropertyToExample(String propertyName, String mediaType, Schema property, Set<String> processedModels) {
         if (property == null) {
             LOGGER.error("Property schema shouldn't be null. Please report the issue to the openapi-generator team.");
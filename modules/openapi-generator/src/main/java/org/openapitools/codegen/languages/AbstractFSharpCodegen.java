@@ -26,6 +26,7 @@ import lombok.Setter;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.*;
+import org.openapitools.codegen.model.ModelIndex;
 import org.openapitools.codegen.model.ModelMap;
 import org.openapitools.codegen.model.ModelsMap;
 import org.openapitools.codegen.model.OperationMap;
@@ -512,6 +513,7 @@ public abstract class AbstractFSharpCodegen extends DefaultCodegen implements Co
     public OperationsMap postProcessOperationsWithModels(OperationsMap objs, List<ModelMap> allModels) {
         super.postProcessOperationsWithModels(objs, allModels);
         if (objs != null) {
+            ModelIndex modelIndex = getModelIndex(allModels);
             OperationMap operations = objs.getOperations();
             if (operations != null) {
                 List<CodegenOperation> ops = operations.getOperation();
@@ -559,14 +561,7 @@ public abstract class AbstractFSharpCodegen extends DefaultCodegen implements Co
 
                     if (!isSupportNullable()) {
                         for (CodegenParameter parameter : operation.allParams) {
-                            CodegenModel model = null;
-                            for (ModelMap modelHashMap : allModels) {
-                                CodegenModel codegenModel = modelHashMap.getModel();
-                                if (codegenModel.getClassname().equals(parameter.dataType)) {
-                                    model = codegenModel;
-                                    break;
-                                }
-                            }
+                            CodegenModel model = modelIndex.getByClassname(parameter.dataType);
 
                             if (model == null) {
                                 // Primitive data types all come already marked
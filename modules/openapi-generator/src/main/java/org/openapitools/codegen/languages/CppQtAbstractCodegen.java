@@ -5,6 +5,7 @@ import io.swagger.v3.parser.util.SchemaTypeUtil;
 import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.*;
 import org.openapitools.codegen.meta.features.*;
+import org.openapitools.codegen.model.ModelIndex;
 import org.openapitools.codegen.model.ModelMap;
 import org.openapitools.codegen.model.OperationMap;
 import org.openapitools.codegen.model.OperationsMap;
@@ -317,17 +318,11 @@ public abstract class CppQtAbstractCodegen extends AbstractCppCodegen implements
         List<CodegenOperation> operations = objectMap.getOperation();
 
         List<Map<String, String>> imports = objs.getImports();
-        Map<String, CodegenModel> codegenModels = new HashMap<>();
+        ModelIndex modelIndex = getModelIndex(allModels);
 
-        for (ModelMap moObj : allModels) {
-            CodegenModel mo = moObj.getModel();
-            if (mo.isEnum) {
-                codegenModels.put(mo.classname, mo);
-            }
-        }
         for (CodegenOperation operation : operations) {
             if (operation.returnType != null) {
-                if (codegenModels.containsKey(operation.returnType)) {
+                if (modelIndex.isEnum(operation.returnType)) {
                     operation.vendorExtensions.put("x-returns-enum", true);
                 }
             }
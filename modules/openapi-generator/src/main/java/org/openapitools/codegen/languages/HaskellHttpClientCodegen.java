@@ -27,6 +27,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.text.StringEscapeUtils;
 import org.openapitools.codegen.*;
 import org.openapitools.codegen.meta.features.*;
+import org.openapitools.codegen.model.ModelIndex;
 import org.openapitools.codegen.model.ModelMap;
 import org.openapitools.codegen.model.ModelsMap;
 import org.openapitools.codegen.model.OperationMap;
@@ -837,10 +838,11 @@ public class HaskellHttpClientCodegen extends DefaultCodegen implements CodegenC
 
         updateGlobalAdditionalProps();
 
-        for (ModelMap modelMap : allModels) {
-            CodegenModel m = modelMap.getModel();
-            if (modelMimeTypes.containsKey(m.classname)) {
-                Set<String> mimeTypes = modelMimeTypes.get(m.classname);
+        ModelIndex modelIndex = getModelIndex(allModels);
+        for (Map.Entry<String, Set<String>> modelMimeType : modelMimeTypes.entrySet()) {
+            CodegenModel m = modelIndex.getByClassname(modelMimeType.getKey());
+            if (m != null) {
+                Set<String> mimeTypes = modelMimeType.getValue();
 
                 m.vendorExtensions.put(VENDOR_EXTENSION_X_MIME_TYPES, mimeTypes);
 
@@ -26,6 +26,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringEscapeUtils;
 import org.openapitools.codegen.*;
 import org.openapitools.codegen.languages.features.CXFExtServerFeatures;
+import org.openapitools.codegen.model.ModelIndex;
 import org.openapitools.codegen.model.ModelMap;
 import org.openapitools.codegen.model.ModelsMap;
 import org.openapitools.codegen.model.OperationMap;
@@ -85,7 +86,7 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
         }
 
         private CodegenVariable(CodegenVariable parent, CodegenOperation op, String testDataPath,
-                                Map<String, CodegenModel> models) {
+                                ModelIndex models) {
 
             name = "response";
             dataFormat = null;// op.dataFormat;
@@ -120,7 +121,7 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
         }
 
         private CodegenVariable(CodegenVariable parent, CodegenParameter param, String testDataPath,
-                                Map<String, CodegenModel> models) {
+                                ModelIndex models) {
 
             name = param.paramName;
             dataFormat = param.dataFormat;
@@ -147,7 +148,7 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
         }
 
         private CodegenVariable(CodegenVariable parent, CodegenProperty prop, String testDataPath,
-                                Map<String, CodegenModel> models) {
+                                ModelIndex models) {
 
             name = prop.name;
             dataFormat = prop.dataFormat;
@@ -209,11 +210,11 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
             return JsonPointer.compile(path.toString());
         }
 
-        private void init(CodegenVariable parent, String testDataPath, Map<String, CodegenModel> models) {
+        private void init(CodegenVariable parent, String testDataPath, ModelIndex models) {
             this.parent = parent;
             this.isArray = dataType.endsWith("[]");
             this.testDataPath = testDataPath;
-            CodegenModel cm = models.get(dataType);
+            CodegenModel cm = models.getByClassname(dataType);
             if (cm != null && (cm.isArray || cm.isMap)) {
                 this.isContainer = true;
                 this.isListContainer = cm.isArray;
@@ -333,7 +334,7 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
     }
 
     private void appendArrayValue(StringBuilder buffer, String indent, CodegenOperation op, CodegenVariable var,
-                                  String localVar, Collection<String> localVars, Map<String, CodegenModel> models) {
+                                  String localVar, Collection<String> localVars, ModelIndex models) {
 
         if (var.dataType.equals("byte[]")) {
             // Byte arrays are represented as Base64-encoded strings.
@@ -371,7 +372,7 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
     }
 
     private void appendByteArrayValue(StringBuilder buffer, String indent, CodegenOperation op, CodegenVariable var,
-                                      String localVar, Collection<String> localVars, Map<String, CodegenModel> models) {
+                                      String localVar, Collection<String> localVars, ModelIndex models) {
 
         if (!loadTestDataFromFile)
             buffer.append('"');
@@ -394,7 +395,7 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
     }
 
     private void appendListValue(StringBuilder buffer, String indent, CodegenOperation op, CodegenVariable var,
-                                 String localVar, Collection<String> localVars, Map<String, CodegenModel> models) {
+                                 String localVar, Collection<String> localVars, ModelIndex models) {
 
         op.imports.add("List");
         if (!loadTestDataFromFile) {
@@ -435,7 +436,7 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
      * @return <code>localVar</code> with a numeric suffix if necessary to ensure uniqueness.
      */
     private String appendLocalVariable(StringBuilder buffer, String indent, CodegenOperation op, CodegenVariable var,
-                                       Collection<String> localVars, Map<String, CodegenModel> models) {
+                                       Collection<String> localVars, ModelIndex models) {
 
         // Ensure that we're using a unique local variable name (to avoid typing and overwriting conflicts).
         String localVar = var.name;
@@ -453,7 +454,7 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
     }
 
     private void appendMapValue(StringBuilder buffer, String indent, CodegenOperation op, CodegenVariable var,
-                                String localVar, Collection<String> localVars, Map<String, CodegenModel> models) {
+                                String localVar, Collection<String> localVars, ModelIndex models) {
 
         op.imports.add("Map");
         if (!loadTestDataFromFile) {
@@ -485,7 +486,7 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
     }
 
     private void appendObjectValue(StringBuilder buffer, String indent, CodegenOperation op, CodegenVariable var,
-                                   String localVar, Collection<String> localVars, Map<String, CodegenModel> models) {
+                                   String localVar, Collection<String> localVars, ModelIndex models) {
 
         if ("Object".equals(var.dataType)) {
             // Jackson can't serialize java.lang.Object, so we'll provide an empty JSON ObjectNode instead.
@@ -503,9 +504,9 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
     }
 
     private void appendPropertyAssignments(StringBuilder buffer, String indent, CodegenOperation op,
-                                           CodegenVariable parent, String localVar, Collection<String> localVars, Map<String, CodegenModel> models) {
+                                           CodegenVariable parent, String localVar, Collection<String> localVars, ModelIndex models) {
 
-        CodegenModel cm = models.get(parent.dataType);
+        CodegenModel cm = models.getByClassname(parent.dataType);
         if (cm != null) { // TODO: handle isArrayModel and isMap
             for (CodegenProperty cp : cm.allVars) {
                 CodegenVariable var = new CodegenVariable(parent, cp, null, models);
@@ -801,10 +802,10 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
      * @param op
      * @param localVar  The variable whose value is to be set.
      * @param localVars Tracks local variables which have been allocated.
-     * @param models    A map of models, keyed on class name.
+     * @param models    An index of the models, to look them up by class name.
      */
     private void appendScalarValue(StringBuilder buffer, String indent, CodegenOperation op, CodegenVariable var,
-                                   String localVar, Collection<String> localVars, Map<String, CodegenModel> models) {
+                                   String localVar, Collection<String> localVars, ModelIndex models) {
 
         if (!var.isPrimitiveType && !DATE_TYPES.contains(var.dataType) || var.dataType.equals("Object")) {
             // All other non-container types: allocate a new object on the heap.
@@ -873,7 +874,7 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
     }
 
     private StringBuilder appendValue(StringBuilder buffer, String indent, CodegenOperation op, CodegenVariable var,
-                                      String localVar, Collection<String> localVars, Map<String, CodegenModel> models) {
+                                      String localVar, Collection<String> localVars, ModelIndex models) {
 
         if (var.isListContainer)
             appendListValue(buffer, indent, op, var, localVar, localVars, models);
@@ -1165,12 +1166,8 @@ public class JavaCXFExtServerCodegen extends JavaCXFServerCodegen implements CXF
             if (operations != null) {
                 String classname = operations.getClassname();
 
-                // Map the models so we can look them up by name.
-                Map<String, CodegenModel> models = new HashMap<>();
-                for (ModelMap model : allModels) {
-                    CodegenModel cgModel = model.getModel();
-                    models.put(cgModel.classname, cgModel);
-                }
+                // Look the models up by name.
+                ModelIndex models = getModelIndex(allModels);
 
                 StringBuilder buffer = new StringBuilder();
                 List<CodegenOperation> ops = operations.getOperation();
@@ -32,6 +32,7 @@ import org.openapitools.codegen.*;
 import org.openapitools.codegen.meta.GeneratorMetadata;
 import org.openapitools.codegen.meta.Stability;
 import org.openapitools.codegen.meta.features.*;
+import org.openapitools.codegen.model.ModelIndex;
 import org.openapitools.codegen.model.ModelMap;
 import org.openapitools.codegen.model.ModelsMap;
 import org.openapitools.codegen.model.OperationMap;
@@ -85,6 +86,8 @@ public class RustAxumServerCodegen extends AbstractRustCodegen implements Codege
     // Grouping (Method, Operation) by Path.
     private final Map<String, ArrayList<MethodOperation>> pathMethodOpMap = new HashMap<>();
     private boolean havingAuthMethods = false;
+    // the models whose oneOf variants and discriminators have been processed
+    private ModelIndex oneOfProcessedModels;
 
     // Logger
     private final Logger LOGGER = LoggerFactory.getLogger(RustAxumServerCodegen.class);
@@ -690,7 +693,12 @@ public class RustAxumServerCodegen extends AbstractRustCodegen implements Codege
 
     @Override
     public OperationsMap postProcessOperationsWithModels(final OperationsMap operationsMap, List<ModelMap> allModels) {
-        postProcessOneOfModels(allModels);
+        // the models are the same for each group of operations, so they only need to be processed once per run
+        final ModelIndex modelIndex = getModelIndex(allModels);
+        if (modelIndex != oneOfProcessedModels) {
+            postProcessOneOfModels(modelIndex.getModels());
+            oneOfProcessedModels = modelIndex;
+        }
 
         final OperationMap operations = operationsMap.getOperations();
         operations.put("classnamePascalCase", camelize(operations.getClassname()));
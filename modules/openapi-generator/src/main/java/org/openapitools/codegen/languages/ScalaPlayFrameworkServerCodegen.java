@@ -24,6 +24,7 @@ import lombok.Setter;
 import org.openapitools.codegen.*;
 import org.openapitools.codegen.meta.features.*;
 import org.openapitools.codegen.model.ApiInfoMap;
+import org.openapitools.codegen.model.ModelIndex;
 import org.openapitools.codegen.model.ModelMap;
 import org.openapitools.codegen.model.ModelsMap;
 import org.openapitools.codegen.model.OperationMap;
@@ -208,12 +209,7 @@ public class ScalaPlayFrameworkServerCodegen extends AbstractScalaCodegen implem
 
     @Override
     public OperationsMap postProcessOperationsWithModels(OperationsMap objs, List<ModelMap> allModels) {
-        Map<String, CodegenModel> models = new HashMap<>();
-
-        for (ModelMap _mo : allModels) {
-            CodegenModel model = _mo.getModel();
-            models.put(model.classname, _mo.getModel());
-        }
+        ModelIndex models = getModelIndex(allModels);
 
         OperationMap operations = objs.getOperations();
         if (operations != null) {
@@ -227,8 +223,8 @@ public class ScalaPlayFrameworkServerCodegen extends AbstractScalaCodegen implem
                     operation.path = operation.path.replace(completeMatch, replacement);
                 }
 
-                if ("null".equals(operation.defaultResponse) && models.containsKey(operation.returnType)) {
-                    operation.defaultResponse = models.get(operation.returnType).defaultValue;
+                if ("null".equals(operation.defaultResponse) && models.containsClassname(operation.returnType)) {
+                    operation.defaultResponse = models.getByClassname(operation.returnType).defaultValue;
                 }
             }
         }
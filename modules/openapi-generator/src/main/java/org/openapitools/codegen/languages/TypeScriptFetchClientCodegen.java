@@ -31,6 +31,7 @@ import lombok.Setter;
 import org.openapitools.codegen.*;
 import org.openapitools.codegen.meta.features.DocumentationFeature;
 import org.openapitools.codegen.meta.features.SecurityFeature;
+import org.openapitools.codegen.model.ModelIndex;
 import org.openapitools.codegen.model.ModelMap;
 import org.openapitools.codegen.model.ModelsMap;
 import org.openapitools.codegen.model.OperationsMap;
@@ -387,7 +388,7 @@ public class TypeScriptFetchClientCodegen extends AbstractTypeScriptClientCodege
     @Override
     public Map<String, ModelsMap> postProcessAllModels(Map<String, ModelsMap> objs) {
         List<ExtendedCodegenModel> allModels = new ArrayList<>();
-        List<String> entityModelClassnames = new ArrayList<>();
+        Set<String> entityModelClassnames = new HashSet<>();
 
         Map<String, ModelsMap> result = super.postProcessAllModels(objs);
         for (ModelsMap entry : result.values()) {
@@ -426,25 +427,19 @@ public class TypeScriptFetchClientCodegen extends AbstractTypeScriptClientCodege
             }
         }
 
+        ModelIndex modelIndex = ModelIndex.ofModelsMaps(result);
         for (ExtendedCodegenModel rootModel : allModels) {
             for (String curImport : rootModel.imports) {
-                boolean isModelImport = false;
-                for (ExtendedCodegenModel model : allModels) {
-                    if (model.classname.equals(curImport) && !model.isEnum) {
-                        isModelImport = true;
-                        break;
-                    }
-                }
-                if (isModelImport) {
+                if (modelIndex.containsClassname(curImport) && !modelIndex.isEnum(curImport)) {
                     rootModel.modelImports.add(curImport);
                 }
             }
 
             for (CodegenProperty cpVar : rootModel.vars) {
                 ExtendedCodegenProperty var = (ExtendedCodegenProperty) cpVar;
-                if (var.isModel && entityModelClassnames.indexOf(var.dataType) != -1) {
+                if (var.isModel && entityModelClassnames.contains(var.dataType)) {
                     var.isEntity = true;
-                } else if (var.isArray && var.items.isModel && entityModelClassnames.indexOf(var.items.dataType) != -1) {
+                } else if (var.isArray && var.items.isModel && entityModelClassnames.contains(var.items.dataType)) {
                     ((ExtendedCodegenProperty) var.items).isEntity = true;
                 }
             }
@@ -0,0 +1,71 @@
+package org.openapitools.codegen.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A template context whose lookups fall back to a map shared with other contexts, typically the generator's additional
+ * properties, so that the shared entries don't have to be copied into the context of every generated file.
+ * <p>
+ * Lookups ({@link #get(Object)}, {@link #containsKey(Object)}, ...) see the entries of this map first and then the
+ * entries of the shared map, which is what the template engines use to resolve variables. Iterating over this map, or
+ * its size, only covers its own entries.
+ */
+public class LayeredContextMap extends HashMap<String, Object> {
+    private Map<String, Object> inherited = Collections.emptyMap();
+
+    /**
+     * Makes the entries of a shared map visible through this map, as if they had been copied with {@link #putAll(Map)}:
+     * they replace the entries of this map with the same keys, and entries put afterwards replace them.
+     *
+     * @param shared The shared entries, which must not change afterwards
+     */
+    public void inherit(Map<String, Object> shared) {
+        for (Map.Entry<String, Object> entry : entrySet()) {
+            if (shared.containsKey(entry.getKey())) {
+                entry.setValue(shared.get(entry.getKey()));
+            }
+        }
+        this.inherited = shared;
+    }
+
+    /**
+     * @return The shared entries visible through this map
+     */
+    public Map<String, Object> getInherited() {
+        return inherited;
+    }
+
+    @Override
+    public Object get(Object key) {
+        Object value = super.get(key);
+        if (value != null || super.containsKey(key)) {
+            return value;
+        }
+        return inherited.get(key);
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        return containsKey(key) ? get(key) : defaultValue;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return super.containsKey(key) || inherited.containsKey(key);
+    }
+
+    @Override
+    public Object putIfAbsent(String key, Object value) {
+        Object existing = get(key);
+        return existing == null ? super.put(key, value) : existing;
+    }
+
+    @Override
+    public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+        Object existing = get(key);
+        return existing == null ? super.computeIfAbsent(key, mappingFunction) : existing;
+    }
+}
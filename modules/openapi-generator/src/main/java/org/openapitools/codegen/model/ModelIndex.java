@@ -0,0 +1,144 @@
+package org.openapitools.codegen.model;
+
+import org.openapitools.codegen.CodegenModel;
+
+import java.util.*;
+
+/**
+ * An immutable index of the models of a generation run, for constant time lookups instead of scanning the list of
+ * all models.
+ * <p>
+ * When several models share a key (e.g. a class name), the index keeps the first one, as a scan of the list would.
+ * The models themselves are not copied: the index reflects changes made to them, but not changes to their keys.
+ */
+public final class ModelIndex {
+    /**
+     * An index without models.
+     */
+    public static final ModelIndex EMPTY = new ModelIndex(Collections.emptyList(), Collections.emptyList());
+
+    private final Collection<ModelMap> source;
+    private final List<ModelMap> models;
+    private final Map<String, CodegenModel> byClassname = new HashMap<>();
+    private final Map<String, CodegenModel> bySchemaName = new HashMap<>();
+    private final Map<String, ModelMap> byImportPath = new HashMap<>();
+    private final Map<String, List<CodegenModel>> childrenByParent = new HashMap<>();
+
+    private ModelIndex(Collection<ModelMap> source, List<ModelMap> models) {
+        this.source = source;
+        this.models = Collections.unmodifiableList(models);
+        for (ModelMap modelMap : models) {
+            CodegenModel model = modelMap.getModel();
+            if (model == null) {
+                continue;
+            }
+            if (model.classname != null) {
+                byClassname.putIfAbsent(model.classname, model);
+            }
+            if (model.schemaName != null) {
+                bySchemaName.putIfAbsent(model.schemaName, model);
+            }
+            Object importPath = modelMap.get("importPath");
+            if (importPath instanceof String) {
+                byImportPath.putIfAbsent((String) importPath, modelMap);
+            }
+            if (model.parent != null) {
+                childrenByParent.computeIfAbsent(model.parent, k -> new ArrayList<>()).add(model);
+            }
+        }
+    }
+
+    /**
+     * Indexes models.
+     *
+     * @param models The models to index, e.g. all the models of a run
+     * @return An index of a snapshot of the given models
+     */
+    public static ModelIndex of(Collection<ModelMap> models) {
+        if (models == null || models.isEmpty()) {
+            return EMPTY;
+        }
+        return new ModelIndex(models, new ArrayList<>(models));
+    }
+
+    /**
+     * Indexes the models of all model files.
+     *
+     * @param modelsByName The models of each model file, as passed to {@code postProcessAllModels}
+     * @return An index of the models of all the files
+     */
+    public static ModelIndex ofModelsMaps(Map<String, ModelsMap> modelsByName) {
+        List<ModelMap> models = new ArrayList<>();
+        if (modelsByName != null) {
+            for (ModelsMap modelsMap : modelsByName.values()) {
+                models.addAll(modelsMap.getModels());
+            }
+        }
+        return of(models);
+    }
+
+    /**
+     * @param models A collection of models
+     * @return {@code true} if this index was built from this very collection, which has not grown or shrunk since
+     */
+    public boolean isOf(Collection<ModelMap> models) {
+        return models == source && models.size() == this.models.size();
+    }
+
+    /**
+     * @return The indexed models, in their original order
+     */
+    public List<ModelMap> getModels() {
+        return models;
+    }
+
+    /**
+     * @param classname The language-specific class name of a model
+     * @return The model with this class name, or {@code null} if there is none
+     */
+    public CodegenModel getByClassname(String classname) {
+        return classname == null ? null : byClassname.get(classname);
+    }
+
+    /**
+     * @param schemaName The name of a model's schema in the OpenAPI document
+     * @return The model of this schema, or {@code null} if there is none
+     */
+    public CodegenModel getBySchemaName(String schemaName) {
+        return schemaName == null ? null : bySchemaName.get(schemaName);
+    }
+
+    /**
+     * @param importPath The import of a model, as returned by {@code toModelImport}
+     * @return The model map with this import path, or {@code null} if there is none
+     */
+    public ModelMap getByImportPath(String importPath) {
+        return importPath == null ? null : byImportPath.get(importPath);
+    }
+
+    /**
+     * @param classname The language-specific class name of a model
+     * @return {@code true} if there is a model with this class name
+     */
+    public boolean containsClassname(String classname) {
+        return getByClassname(classname) != null;
+    }
+
+    /**
+     * @param classname The language-specific class name of a model
+     * @return {@code true} if there is a model with this class name and it is an enum
+     */
+    public boolean isEnum(String classname) {
+        CodegenModel model = getByClassname(classname);
+        return model != null && model.isEnum;
+    }
+
+    /**
+     * @param parent The class name of a parent model
+     * @return The models extending this parent, in their original order
+     */
+    public List<CodegenModel> getChildren(String parent) {
+        List<CodegenModel> children = parent == null ? null : childrenByParent.get(parent);
+        return children == null ? Collections.emptyList() : Collections.unmodifiableList(children);
+    }
+}
@@ -1,10 +1,9 @@
 package org.openapitools.codegen.model;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-public class WebhooksMap extends HashMap<String, Object> {
+public class WebhooksMap extends LayeredContextMap {
     public OperationMap getWebhooks() {
         return (OperationMap) get("operations");
     }
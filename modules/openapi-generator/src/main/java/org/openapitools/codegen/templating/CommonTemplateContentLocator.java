@@ -6,12 +6,16 @@ import org.openapitools.codegen.api.TemplatePathLocator;
 
 import java.io.File;
 import java.net.URL;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Locates generator-agnostic templates from a common built-in location.
  */
 public class CommonTemplateContentLocator implements TemplatePathLocator {
     private String resourceLocation = "_common";
+    private final Map<String, Optional<String>> resolvedPaths = new ConcurrentHashMap<>();
 
     /**
      * Constructs a new instance of {@link CommonTemplateContentLocator} defaulting to _common resource location.
@@ -37,13 +41,18 @@ public class CommonTemplateContentLocator implements TemplatePathLocator {
      */
     @Override
     public String getFullTemplatePath(String relativeTemplateFile) {
-        if (StringUtils.isNotEmpty(relativeTemplateFile)) {
-            String loc = this.resourceLocation + File.separator + relativeTemplateFile;
+        if (StringUtils.isEmpty(relativeTemplateFile)) {
+            return null;
+        }
+        return resolvedPaths.computeIfAbsent(relativeTemplateFile, name -> Optional.ofNullable(resolveFullTemplatePath(name))).orElse(null);
+    }
+
+    private String resolveFullTemplatePath(String relativeTemplateFile) {
+        String loc = this.resourceLocation + File.separator + relativeTemplateFile;
 
-            URL url = this.getClass().getClassLoader().getResource(TemplateManager.getCPResourcePath(loc));
-            if (url != null) {
-                return loc;
-            }
+        URL url = this.getClass().getClassLoader().getResource(TemplateManager.getCPResourcePath(loc));
+        if (url != null) {
+            return loc;
         }
         return null;
     }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.templating;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.lang3.StringUtils;
+import org.openapitools.codegen.CodegenConfig;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A thread-safe cache of compiled templates.
+ * <p>
+ * Entries are keyed by a template lookup scope and the template name. The scope describes everything which affects
+ * how a template name (and the partials it includes) is resolved and compiled: the generator, the user-defined and
+ * embedded template directories, the library and a fingerprint of the user-defined template files on disk.
+ * Within a scope a template name always resolves to the same template path, so one cache can safely be shared
+ * by several generation runs, and editing a user-defined template yields a new scope and thus a recompilation.
+ *
+ * @param <T> The compiled template type of the underlying templating engine
+ */
+public class CompiledTemplateCache<T> {
+    private static final String KEY_SEPARATOR = "\u0000";
+
+    private final Cache<String, T> templates;
+
+    /**
+     * Constructs an unbounded cache, suitable for the lifetime of a single generation run.
+     */
+    public CompiledTemplateCache() {
+        this.templates = Caffeine.newBuilder().build();
+    }
+
+    /**
+     * Constructs a cache holding at most {@code maximumSize} compiled templates, suitable for sharing across runs.
+     *
+     * @param maximumSize The maximum number of compiled templates to retain
+     */
+    public CompiledTemplateCache(long maximumSize) {
+        this.templates = Caffeine.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    /**
+     * Gets the compiled template for the given scope and template name, compiling it on first access.
+     *
+     * @param scope        The template lookup scope, see {@link #scopeOf(CodegenConfig)}
+     * @param templateName The name of the template (e.g. model.mustache)
+     * @param compiler     Compiles the template of the given name
+     * @return The compiled template
+     */
+    public T get(String scope, String templateName, Function<String, T> compiler) {
+        return templates.get(scope + KEY_SEPARATOR + templateName, key -> compiler.apply(templateName));
+    }
+
+    /**
+     * @return The approximate number of compiled templates in this cache
+     */
+    public long size() {
+        return templates.estimatedSize();
+    }
+
+    /**
+     * Discards all compiled templates.
+     */
+    public void clear() {
+        templates.invalidateAll();
+    }
+
+    /**
+     * Builds the template lookup scope of a generator, once its options have been processed.
+     *
+     * @param config The generator's configuration
+     * @return A string identifying how templates are resolved and compiled for this generator
+     */
+    public static String scopeOf(CodegenConfig config) {
+        return String.join(KEY_SEPARATOR,
+                config.getClass().getName(),
+                StringUtils.defaultString(config.templateDir()),
+                StringUtils.defaultString(config.embeddedTemplateDir()),
+                StringUtils.defaultString(config.getLibrary()),
+                templateDirFingerprint(config.templateDir()));
+    }
+
+    /**
+     * Computes a cheap fingerprint (file count and latest modification time) of a template directory on disk.
+     * Template directories which only exist on the classpath have an empty fingerprint.
+     */
+    private static String templateDirFingerprint(String templateDir) {
+        if (StringUtils.isEmpty(templateDir) || !new File(templateDir).isDirectory()) {
+            return "";
+        }
+        try (Stream<Path> paths = Files.walk(new File(templateDir).toPath())) {
+            long[] countAndLastModified = new long[2];
+            paths.filter(Files::isRegularFile).forEach(path -> {
+                countAndLastModified[0]++;
+                countAndLastModified[1] = Math.max(countAndLastModified[1], path.toFile().lastModified());
+            });
+            return countAndLastModified[0] + ":" + countAndLastModified[1];
+        } catch (IOException | UncheckedIOException e) {
+            // an unreadable directory must never match a previously cached scope
+            return String.valueOf(System.nanoTime());
+        }
+    }
+}
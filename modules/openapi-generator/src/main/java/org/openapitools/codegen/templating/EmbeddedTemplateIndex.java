@@ -0,0 +1,93 @@
+package org.openapitools.codegen.templating;
+
+import org.openapitools.codegen.TemplateManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * An index of the template files found below an embedded (i.e. classpath) template directory,
+ * built once so that checking whether an embedded template exists needs no class loader lookup.
+ * <p>
+ * The index covers every classpath location of the directory which is a file system directory or a jar file.
+ * Other locations (or jars without directory entries) can't be enumerated, so a miss is not conclusive.
+ */
+class EmbeddedTemplateIndex {
+    private final Logger LOGGER = LoggerFactory.getLogger(EmbeddedTemplateIndex.class);
+
+    private final Set<String> resourcePaths = new HashSet<>();
+
+    /**
+     * Builds the index of an embedded template directory.
+     *
+     * @param embeddedTemplateDir The embedded template directory, relative to the classpath root
+     */
+    EmbeddedTemplateIndex(String embeddedTemplateDir) {
+        String directory = TemplateManager.getCPResourcePath(embeddedTemplateDir);
+        while (directory.endsWith("/")) {
+            directory = directory.substring(0, directory.length() - 1);
+        }
+        try {
+            Enumeration<URL> locations = getClass().getClassLoader().getResources(directory);
+            while (locations.hasMoreElements()) {
+                index(directory, locations.nextElement());
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Unable to index embedded templates of {}: {}", embeddedTemplateDir, e.getMessage());
+        }
+    }
+
+    private void index(String directory, URL location) throws IOException {
+        if ("file".equals(location.getProtocol())) {
+            Path root;
+            try {
+                root = Paths.get(location.toURI());
+            } catch (URISyntaxException e) {
+                return;
+            }
+            try (Stream<Path> paths = Files.walk(root)) {
+                paths.filter(Files::isRegularFile)
+                        .forEach(path -> resourcePaths.add(directory + "/" + root.relativize(path).toString().replace('\\', '/')));
+            }
+        } else if ("jar".equals(location.getProtocol())) {
+            URLConnection connection = location.openConnection();
+            if (connection instanceof JarURLConnection) {
+                connection.setUseCaches(false);
+                String prefix = directory + "/";
+                try (JarFile jar = ((JarURLConnection) connection).getJarFile()) {
+                    Enumeration<JarEntry> entries = jar.entries();
+                    while (entries.hasMoreElements()) {
+                        JarEntry entry = entries.nextElement();
+                        if (!entry.isDirectory() && entry.getName().startsWith(prefix)) {
+                            resourcePaths.add(entry.getName());
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Determines whether the index lists the given template.
+     *
+     * @param name The name of the template, relative to the classpath root
+     * @return true if the template is known to exist, false if it is not listed
+     */
+    boolean contains(String name) {
+        return resourcePaths.contains(TemplateManager.getCPResourcePath(Paths.get(name).normalize().toString()));
+    }
+}
@@ -7,12 +7,22 @@ import org.openapitools.codegen.api.TemplatePathLocator;
 
 import java.io.File;
 import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Locates templates according to {@link CodegenConfig} settings.
+ * <p>
+ * Resolved paths (including templates which could not be found) are memoized per template dir, embedded template dir
+ * and library, as those settings may still change while the generator processes its options.
  */
 public class GeneratorTemplateContentLocator implements TemplatePathLocator {
+    private static final String KEY_SEPARATOR = "\u0000";
+
     private final CodegenConfig codegenConfig;
+    private final Map<String, Optional<String>> resolvedPaths = new ConcurrentHashMap<>();
+    private final Map<String, EmbeddedTemplateIndex> embeddedTemplateIndexes = new ConcurrentHashMap<>();
 
     /**
      * Constructs a new instance of {@link GeneratorTemplateContentLocator} for the provided {@link CodegenConfig}
@@ -35,6 +45,12 @@ public class GeneratorTemplateContentLocator implements TemplatePathLocator {
      * @return true if file is an embedded resource, false if it does not exist
      */
     public boolean embeddedTemplateExists(String name) {
+        // the index only lists the embedded templates it could enumerate, so anything else is looked up on the classpath
+        String embeddedTemplateDir = this.codegenConfig.embeddedTemplateDir();
+        if (StringUtils.isNotEmpty(embeddedTemplateDir)
+                && embeddedTemplateIndexes.computeIfAbsent(embeddedTemplateDir, EmbeddedTemplateIndex::new).contains(name)) {
+            return true;
+        }
         return classpathTemplateExists(name);
     }
 
@@ -59,6 +75,16 @@ public class GeneratorTemplateContentLocator implements TemplatePathLocator {
     @Override
     public String getFullTemplatePath(String relativeTemplateFile) {
         CodegenConfig config = this.codegenConfig;
+        String key = String.join(KEY_SEPARATOR,
+                StringUtils.defaultString(config.templateDir()),
+                StringUtils.defaultString(config.embeddedTemplateDir()),
+                StringUtils.defaultString(config.getLibrary()),
+                relativeTemplateFile);
+        return resolvedPaths.computeIfAbsent(key, k -> Optional.ofNullable(resolveFullTemplatePath(relativeTemplateFile))).orElse(null);
+    }
+
+    private String resolveFullTemplatePath(String relativeTemplateFile) {
+        CodegenConfig config = this.codegenConfig;
 
         //check the supplied template library folder for the file
         final String library = config.getLibrary();
@@ -20,6 +20,8 @@ import com.github.jknack.handlebars.Context;
 import com.github.jknack.handlebars.Handlebars;
 import com.github.jknack.handlebars.Jackson2Helper;
 import com.github.jknack.handlebars.Template;
+import com.github.jknack.handlebars.ValueResolver;
+import com.github.jknack.handlebars.cache.ConcurrentMapTemplateCache;
 import com.github.jknack.handlebars.context.FieldValueResolver;
 import com.github.jknack.handlebars.context.JavaBeanValueResolver;
 import com.github.jknack.handlebars.context.MapValueResolver;
@@ -30,7 +32,6 @@ import com.github.jknack.handlebars.io.AbstractTemplateLoader;
 import com.github.jknack.handlebars.io.StringTemplateSource;
 import com.github.jknack.handlebars.io.TemplateLoader;
 import com.github.jknack.handlebars.io.TemplateSource;
-import lombok.Setter;
 import org.openapitools.codegen.api.AbstractTemplatingEngineAdapter;
 import org.openapitools.codegen.api.TemplatingExecutor;
 import org.openapitools.codegen.templating.handlebars.AccessAwareFieldValueResolver;
@@ -51,8 +52,19 @@ public class HandlebarsEngineAdapter extends AbstractTemplatingEngineAdapter {
 
     // We use this as a simple lookup for valid file name extensions. This adapter will inspect .mustache (built-in) and infer the relevant handlebars filename
     private final String[] canCompileFromExtensions = {".handlebars",".hbs",".mustache"};
+    // resolvers are stateless (or cache reflection metadata per class), so one chain serves every context
+    private static final ValueResolver[] VALUE_RESOLVERS = {
+            MapValueResolver.INSTANCE,
+            JavaBeanValueResolver.INSTANCE,
+            MethodValueResolver.INSTANCE,
+            AccessAwareFieldValueResolver.INSTANCE
+    };
+
     private boolean infiniteLoops = false;
-    @Setter private boolean prettyPrint = false;
+    private boolean prettyPrint = false;
+    private Handlebars handlebars;
+    // partials are loaded lazily while a template is applied, so they're resolved against the executor of the current call
+    private final ThreadLocal<TemplatingExecutor> currentExecutor = new ThreadLocal<>();
 
     /**
      * Provides an identifier used to load the adapter. This could be a name, uuid, or any other string.
@@ -67,35 +79,51 @@ public class HandlebarsEngineAdapter extends AbstractTemplatingEngineAdapter {
     @Override
     public String compileTemplate(TemplatingExecutor executor,
                                   Map<String, Object> bundle, String templateFile) throws IOException {
-        TemplateLoader loader = new AbstractTemplateLoader() {
-            @Override
-            public TemplateSource sourceAt(String location) {
-                return findTemplate(executor, location);
-            }
-        };
-
         Context context = Context
                 .newBuilder(bundle)
-                .resolver(
-                        MapValueResolver.INSTANCE,
-                        JavaBeanValueResolver.INSTANCE,
-                        MethodValueResolver.INSTANCE,
-                        AccessAwareFieldValueResolver.INSTANCE)
+                .resolver(VALUE_RESOLVERS)
                 .build();
 
-        Handlebars handlebars = new Handlebars(loader);
-        handlebars.registerHelperMissing((obj, options) -> {
-            LOGGER.warn(String.format(Locale.ROOT, "Unregistered helper name '%s', processing template:%n%s", options.helperName, options.fn.text()));
-            return "";
-        });
-        handlebars.registerHelper("json", Jackson2Helper.INSTANCE);
-        StringHelpers.register(handlebars);
-        handlebars.registerHelpers(ConditionalHelpers.class);
-        handlebars.registerHelpers(org.openapitools.codegen.templating.handlebars.StringHelpers.class);
-        handlebars.setInfiniteLoops(infiniteLoops);
-        handlebars.setPrettyPrint(prettyPrint);
-        Template tmpl = handlebars.compile(templateFile);
-        return tmpl.apply(context);
+        currentExecutor.set(executor);
+        try {
+            Template tmpl = handlebars().compile(templateFile);
+            return tmpl.apply(context);
+        } finally {
+            currentExecutor.remove();
+        }
+    }
+
+    /**
+     * Gets the Handlebars engine of this adapter, creating and configuring it on first use.
+     * The engine (with its registered helpers and parsed templates) is reused for every file of a generation run.
+     *
+     * @return The configured engine
+     */
+    synchronized Handlebars handlebars() {
+        if (handlebars == null) {
+            TemplateLoader loader = new AbstractTemplateLoader() {
+                @Override
+                public TemplateSource sourceAt(String location) {
+                    return findTemplate(currentExecutor.get(), location);
+                }
+            };
+
+            // a source's lastModified is the hash of its contents, so reloading on change keeps templates
+            // from different executors (or edited on disk) apart while unchanged templates are parsed once
+            Handlebars engine = new Handlebars(loader).with(new ConcurrentMapTemplateCache().setReload(true));
+            engine.registerHelperMissing((obj, options) -> {
+                LOGGER.warn(String.format(Locale.ROOT, "Unregistered helper name '%s', processing template:%n%s", options.helperName, options.fn.text()));
+                return "";
+            });
+            engine.registerHelper("json", Jackson2Helper.INSTANCE);
+            StringHelpers.register(engine);
+            engine.registerHelpers(ConditionalHelpers.class);
+            engine.registerHelpers(org.openapitools.codegen.templating.handlebars.StringHelpers.class);
+            engine.setInfiniteLoops(infiniteLoops);
+            engine.setPrettyPrint(prettyPrint);
+            handlebars = engine;
+        }
+        return handlebars;
     }
 
     @SuppressWarnings("java:S108")
@@ -140,10 +168,21 @@ public class HandlebarsEngineAdapter extends AbstractTemplatingEngineAdapter {
      * @param infiniteLoops Whether to enable (true) or disable (false)
      * @return this object
      */
-    public HandlebarsEngineAdapter infiniteLoops(boolean infiniteLoops) {
+    public synchronized HandlebarsEngineAdapter infiniteLoops(boolean infiniteLoops) {
         this.infiniteLoops = infiniteLoops;
+        this.handlebars = null;
         return this;
     }
 
+    /**
+     * Enable/disable prettyPrint setting for the Handlebars engine.
+     *
+     * @param prettyPrint Whether to enable (true) or disable (false)
+     */
+    public synchronized void setPrettyPrint(boolean prettyPrint) {
+        this.prettyPrint = prettyPrint;
+        this.handlebars = null;
+    }
+
 }
 
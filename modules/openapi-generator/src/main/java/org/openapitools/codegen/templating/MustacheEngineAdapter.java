@@ -47,10 +47,46 @@ public class MustacheEngineAdapter implements TemplatingEngineAdapter {
         return "mustache";
     }
 
+    /**
+     * A compiled template cache which may be shared across generation runs, see {@link CodegenConstants#SHARED_TEMPLATE_CACHE}.
+     */
+    public static final CompiledTemplateCache<Template> SHARED_TEMPLATE_CACHE = new CompiledTemplateCache<>(2000);
+
     private final String[] extensions = {"mustache"};
-    @Getter @Setter
+    @Getter
     Mustache.Compiler compiler = Mustache.compiler();
 
+    /**
+     * The compiled templates of this adapter. Defaults to a cache owned by this adapter (i.e. by one generator run).
+     */
+    @Getter @Setter
+    private CompiledTemplateCache<Template> templateCache = new CompiledTemplateCache<>();
+
+    /**
+     * The template lookup scope under which templates are cached, see {@link CompiledTemplateCache#scopeOf}.
+     * Templates are not cached until a scope is set, as their resolution then depends on the calling executor.
+     */
+    @Getter @Setter
+    private String templateCacheScope = "";
+
+    // partials are loaded lazily while a (possibly cached) template executes, so they're resolved against the
+    // executor of the current call rather than against the executor which happened to compile the template.
+    // This is static since a template of the shared cache may have been compiled by another adapter.
+    private static final ThreadLocal<TemplatingExecutor> CURRENT_EXECUTOR = new ThreadLocal<>();
+
+    /**
+     * Sets the compiler used for templates. Compiled templates keep a reference to their compiler, so any template
+     * compiled into this adapter's own cache by a previous compiler is discarded.
+     *
+     * @param compiler The compiler, typically customized through {@link org.openapitools.codegen.CodegenConfig#processCompiler}
+     */
+    public void setCompiler(Mustache.Compiler compiler) {
+        this.compiler = compiler;
+        if (templateCache != SHARED_TEMPLATE_CACHE) {
+            templateCache.clear();
+        }
+    }
+
     /**
      * Compiles a template into a string
      *
@@ -62,10 +98,9 @@ public class MustacheEngineAdapter implements TemplatingEngineAdapter {
      */
     @Override
     public String compileTemplate(TemplatingExecutor executor, Map<String, Object> bundle, String templateFile) throws IOException {
-        Template tmpl = compiler
-                .withLoader(name -> findTemplate(executor, name))
-                .defaultValue("")
-                .compile(executor.getFullTemplateContents(templateFile));
+        Template tmpl = templateCacheScope.isEmpty()
+                ? compile(executor, templateFile)
+                : templateCache.get(templateCacheScope, templateFile, name -> compile(executor, name));
         StringWriter out = new StringWriter();
 
         // the value of bundle[MUSTACHE_PARENT_CONTEXT] is used a parent content in mustache.
@@ -77,10 +112,27 @@ public class MustacheEngineAdapter implements TemplatingEngineAdapter {
             // avoid NPE
             parent = new Object();
         }
-        tmpl.execute(bundle, parent, out);
+        TemplatingExecutor outerExecutor = CURRENT_EXECUTOR.get();
+        CURRENT_EXECUTOR.set(executor);
+        try {
+            tmpl.execute(bundle, parent, out);
+        } finally {
+            if (outerExecutor == null) {
+                CURRENT_EXECUTOR.remove();
+            } else {
+                CURRENT_EXECUTOR.set(outerExecutor);
+            }
+        }
         return out.toString();
     }
 
+    private Template compile(TemplatingExecutor executor, String templateFile) {
+        return compiler
+                .withLoader(name -> findTemplate(CURRENT_EXECUTOR.get(), name))
+                .defaultValue("")
+                .compile(executor.getFullTemplateContents(templateFile));
+    }
+
     @SuppressWarnings("java:S108") // catch-all is expected, and is later thrown
     public Reader findTemplate(TemplatingExecutor generator, String name) {
         for (String extension : extensions) {
@@ -19,6 +19,8 @@ package org.openapitools.codegen.utils;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.swagger.v3.core.util.AnnotationsUtils;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -76,6 +78,9 @@ public class ModelUtils {
 
     private static final String freeFormExplicit = "x-is-free-form";
 
+    // schema usage per OpenAPI instance (compared by identity), see getSchemaUsage
+    private static final Cache<OpenAPI, SchemaUsage> SCHEMA_USAGE_CACHE = Caffeine.newBuilder().weakKeys().build();
+
     private static final ObjectMapper JSON_MAPPER;
     private static final ObjectMapper YAML_MAPPER;
 
@@ -127,6 +132,34 @@ public class ModelUtils {
         return null;
     }
 
+    /**
+     * Return the usage of the schemas in the 'components/schemas' section of an openAPI specification.
+     * <p>
+     * The usage is computed once per OpenAPI instance and reused as long as the paths and schemas of the
+     * specification have not been replaced, added or removed. Code which modifies existing paths or schemas
+     * in place should call {@link #clearSchemaUsage(OpenAPI)} afterwards.
+     *
+     * @param openAPI specification
+     * @return the schema usage
+     */
+    public static SchemaUsage getSchemaUsage(OpenAPI openAPI) {
+        SchemaUsage usage = SCHEMA_USAGE_CACHE.getIfPresent(openAPI);
+        if (usage == null || !usage.isCurrent(openAPI)) {
+            usage = SchemaUsage.of(openAPI);
+            SCHEMA_USAGE_CACHE.put(openAPI, usage);
+        }
+        return usage;
+    }
+
+    /**
+     * Discard the schema usage computed for an openAPI specification, see {@link #getSchemaUsage(OpenAPI)}.
+     *
+     * @param openAPI specification
+     */
+    public static void clearSchemaUsage(OpenAPI openAPI) {
+        SCHEMA_USAGE_CACHE.invalidate(openAPI);
+    }
+
     /**
      * Return the list of all schemas in the 'components/schemas' section used in the openAPI specification
      *
@@ -134,24 +167,7 @@ public class ModelUtils {
      * @return schemas a list of used schemas
      */
     public static List<String> getAllUsedSchemas(OpenAPI openAPI) {
-        Map<String, List<String>> childrenMap = getChildrenMap(openAPI);
-        List<String> allUsedSchemas = new ArrayList<String>();
-        visitOpenAPI(openAPI, (s, t) -> {
-            if (s.get$ref() != null) {
-                String ref = getSimpleRef(s.get$ref());
-                if (!allUsedSchemas.contains(ref)) {
-                    allUsedSchemas.add(ref);
-                }
-                if (childrenMap.containsKey(ref)) {
-                    for (String child : childrenMap.get(ref)) {
-                        if (!allUsedSchemas.contains(child)) {
-                            allUsedSchemas.add(child);
-                        }
-                    }
-                }
-            }
-        });
-        return allUsedSchemas;
+        return new ArrayList<>(getSchemaUsage(openAPI).getUsedSchemas());
     }
 
     /**
@@ -161,35 +177,10 @@ public class ModelUtils {
      * @return schemas a list of unused schemas
      */
     public static List<String> getUnusedSchemas(OpenAPI openAPI) {
-        final Map<String, List<String>> childrenMap;
-        Map<String, List<String>> tmpChildrenMap;
-        try {
-            tmpChildrenMap = getChildrenMap(openAPI);
-        } catch (NullPointerException npe) {
-            // in rare cases, such as a spec document with only one top-level oneOf schema and multiple referenced schemas,
-            // the stream used in getChildrenMap will raise an NPE. Rather than modify getChildrenMap which is used by getAllUsedSchemas,
-            // we'll catch here as a workaround for this edge case.
-            tmpChildrenMap = new HashMap<>();
-        }
-
-        childrenMap = tmpChildrenMap;
-        List<String> unusedSchemas = new ArrayList<String>();
-
-        if (openAPI != null) {
-            Map<String, Schema> schemas = getSchemas(openAPI);
-            unusedSchemas.addAll(schemas.keySet());
-
-            visitOpenAPI(openAPI, (s, t) -> {
-                if (s.get$ref() != null) {
-                    String ref = getSimpleRef(s.get$ref());
-                    unusedSchemas.remove(ref);
-                    if (childrenMap.containsKey(ref)) {
-                        unusedSchemas.removeAll(childrenMap.get(ref));
-                    }
-                }
-            });
+        if (openAPI == null) {
+            return new ArrayList<>();
         }
-        return unusedSchemas;
+        return new ArrayList<>(getSchemaUsage(openAPI).getUnusedSchemas());
     }
 
     /**
@@ -199,35 +190,19 @@ public class ModelUtils {
      * @return schemas a list of schemas
      */
     public static List<String> getSchemasUsedOnlyInFormParam(OpenAPI openAPI) {
-        List<String> schemasUsedInFormParam = new ArrayList<String>();
-        List<String> schemasUsedInOtherCases = new ArrayList<String>();
-
-        visitOpenAPI(openAPI, (s, t) -> {
-            if (s != null && s.get$ref() != null) {
-                String ref = getSimpleRef(s.get$ref());
-                if ("application/x-www-form-urlencoded".equalsIgnoreCase(t) ||
-                        "multipart/form-data".equalsIgnoreCase(t)) {
-                    schemasUsedInFormParam.add(ref);
-                } else {
-                    schemasUsedInOtherCases.add(ref);
-                }
-            }
-        });
-        return schemasUsedInFormParam.stream().filter(n -> !schemasUsedInOtherCases.contains(n)).collect(Collectors.toList());
+        return new ArrayList<>(getSchemaUsage(openAPI).getSchemasUsedOnlyInFormParam());
     }
 
     /**
-     * Private method used by several methods ({@link #getAllUsedSchemas(OpenAPI)},
-     * {@link #getUnusedSchemas(OpenAPI)},
-     * {@link #getSchemasUsedOnlyInFormParam(OpenAPI)}, ...) to traverse all paths of an
+     * Method used by {@link SchemaUsage} to traverse all paths of an
      * OpenAPI instance and call the visitor functional interface when a schema is found.
      *
      * @param openAPI specification
      * @param visitor functional interface (can be defined as a lambda) called each time a schema is found.
      */
-    private static void visitOpenAPI(OpenAPI openAPI, OpenAPISchemaVisitor visitor) {
+    static void visitOpenAPI(OpenAPI openAPI, OpenAPISchemaVisitor visitor) {
         Map<String, PathItem> paths = openAPI.getPaths();
-        List<String> visitedSchemas = new ArrayList<>();
+        Set<String> visitedSchemas = new HashSet<>();
 
         if (paths != null) {
             for (PathItem path : paths.values()) {
@@ -236,7 +211,7 @@ public class ModelUtils {
         }
     }
 
-    private static void visitPathItem(PathItem pathItem, OpenAPI openAPI, OpenAPISchemaVisitor visitor, List<String> visitedSchemas) {
+    private static void visitPathItem(PathItem pathItem, OpenAPI openAPI, OpenAPISchemaVisitor visitor, Set<String> visitedSchemas) {
         List<Operation> allOperations = pathItem.readOperations();
         if (allOperations != null) {
             for (Operation operation : allOperations) {
@@ -286,7 +261,7 @@ public class ModelUtils {
     }
 
     private static void visitParameters(OpenAPI openAPI, List<Parameter> parameters, OpenAPISchemaVisitor visitor,
-                                        List<String> visitedSchemas) {
+                                        Set<String> visitedSchemas) {
         if (parameters != null) {
             for (Parameter p : parameters) {
                 Parameter parameter = getReferencedParameter(openAPI, p);
@@ -302,7 +277,7 @@ public class ModelUtils {
         }
     }
 
-    private static void visitContent(OpenAPI openAPI, Content content, OpenAPISchemaVisitor visitor, List<String> visitedSchemas) {
+    private static void visitContent(OpenAPI openAPI, Content content, OpenAPISchemaVisitor visitor, Set<String> visitedSchemas) {
         if (content != null) {
             for (Entry<String, MediaType> e : content.entrySet()) {
                 if (e.getValue().getSchema() != null) {
@@ -321,10 +296,10 @@ public class ModelUtils {
      * @param openAPI        the OpenAPI document that contains schema objects.
      * @param schema         the root schema object to be visited.
      * @param mimeType       the mime type. TODO: does not seem to be used in a meaningful way.
-     * @param visitedSchemas the list of referenced schemas that have been visited.
+     * @param visitedSchemas the set of referenced schemas that have been visited.
      * @param visitor        the visitor function which is invoked for every visited schema.
      */
-    private static void visitSchema(OpenAPI openAPI, Schema schema, String mimeType, List<String> visitedSchemas, OpenAPISchemaVisitor visitor) {
+    private static void visitSchema(OpenAPI openAPI, Schema schema, String mimeType, Set<String> visitedSchemas, OpenAPISchemaVisitor visitor) {
         if (schema == null) {
             return;
         }
@@ -332,8 +307,7 @@ public class ModelUtils {
         visitor.visit(schema, mimeType);
         if (schema.get$ref() != null) {
             String ref = getSimpleRef(schema.get$ref());
-            if (!visitedSchemas.contains(ref)) {
-                visitedSchemas.add(ref);
+            if (visitedSchemas.add(ref)) {
                 Schema referencedSchema = getSchemas(openAPI).get(ref);
                 if (referencedSchema != null) {
                     visitSchema(openAPI, referencedSchema, mimeType, visitedSchemas, visitor);
@@ -1070,7 +1044,7 @@ public class ModelUtils {
      */
     public static List<Schema> getAllSchemas(OpenAPI openAPI) {
         List<Schema> allSchemas = new ArrayList<Schema>();
-        List<String> refSchemas = new ArrayList<String>();
+        Set<String> refSchemas = new HashSet<>();
         getSchemas(openAPI).forEach((key, schema) -> {
             // Invoke visitSchema to recursively visit all schema objects, included inlined and composed schemas.
             // Use the OpenAPISchemaVisitor visitor function
@@ -2302,7 +2276,7 @@ public class ModelUtils {
     }
 
     @FunctionalInterface
-    private interface OpenAPISchemaVisitor {
+    interface OpenAPISchemaVisitor {
 
         void visit(Schema schema, String mimeType);
     }
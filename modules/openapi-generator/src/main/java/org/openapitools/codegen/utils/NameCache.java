@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * A thread-safe memo of name transformations (sanitizing, camelizing, escaping...) scoped to a generation run.
+ * <p>
+ * A spec may have tens of thousands of distinct names, each transformed many times, so the cache is unbounded
+ * by default: it is meant to be owned by a single run, and {@link #release() released} once that run is done.
+ *
+ * @param <K> The type of the transformation input
+ */
+public final class NameCache<K> {
+    private final String name;
+    private final Cache<K, String> names;
+    private CacheStats released = CacheStats.empty();
+
+    /**
+     * @param name        A name for the transformation, used in statistics
+     * @param maximumSize The maximum number of entries to retain, or a negative value for no bound
+     */
+    public NameCache(String name, long maximumSize) {
+        this.name = name;
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (maximumSize >= 0) {
+            builder.maximumSize(maximumSize);
+        }
+        this.names = builder.build();
+    }
+
+    /**
+     * Gets the transformed name of a key, transforming it on first access.
+     *
+     * @param key       The transformation input
+     * @param transform Computes the transformed name, which must only depend on the key
+     * @return The transformed name
+     */
+    public String get(K key, Function<? super K, String> transform) {
+        return names.get(key, transform);
+    }
+
+    /**
+     * @return The statistics of this cache since it was last released
+     */
+    public synchronized CacheStats stats() {
+        return names.stats().minus(released);
+    }
+
+    /**
+     * Discards all entries and starts new statistics.
+     *
+     * @return The statistics of this cache since it was last released
+     */
+    public synchronized CacheStats release() {
+        CacheStats stats = stats();
+        names.invalidateAll();
+        released = names.stats();
+        return stats;
+    }
+
+    /**
+     * Formats statistics for logging.
+     *
+     * @param stats The statistics of this cache
+     * @return e.g. "camelize: 950 hits, 50 misses (95.0%)"
+     */
+    public String describe(CacheStats stats) {
+        return String.format(Locale.ROOT, "%s: %d hits, %d misses (%.1f%%)",
+                name, stats.hitCount(), stats.missCount(), stats.hitRate() * 100);
+    }
+}
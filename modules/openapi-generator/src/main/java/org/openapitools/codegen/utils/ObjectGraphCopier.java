@@ -0,0 +1,252 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Deep copies a graph of objects field by field, keeping objects shared within the graph shared within the copy.
+ * <p>
+ * The objects of the copied types are created with their no-argument constructor, and their fields are copied along
+ * with the lists, sets, maps, arrays, JSON nodes and dates they hold. Final collection fields are filled in place.
+ * Everything else (strings, numbers, enums, objects of other types) is shared with the original.
+ * <p>
+ * The fields are accessed through method handles, looked up once per class. A copier is not thread-safe, and is meant
+ * for a single copy.
+ */
+public final class ObjectGraphCopier {
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<List<FieldHandles>> FIELDS = new ClassValue<>() {
+        @Override
+        protected List<FieldHandles> computeValue(Class<?> type) {
+            List<FieldHandles> fields = new ArrayList<>();
+            try {
+                // the fields of the JDK classes some types extend (e.g. a LinkedHashMap) are copied as collections
+                for (Class<?> c = type; c != null && !c.getName().startsWith("java."); c = c.getSuperclass()) {
+                    MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(c, MethodHandles.lookup());
+                    for (Field field : c.getDeclaredFields()) {
+                        int modifiers = field.getModifiers();
+                        if (!Modifier.isStatic(modifiers)) {
+                            fields.add(new FieldHandles(lookup.unreflectGetter(field).asType(GETTER),
+                                    Modifier.isFinal(modifiers) ? null : lookup.unreflectSetter(field).asType(SETTER),
+                                    !Modifier.isTransient(modifiers) && !field.isSynthetic()));
+                        }
+                    }
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Unable to access the fields of " + type.getName(), e);
+            }
+            return fields;
+        }
+    };
+
+    private static final ClassValue<List<MethodHandle>> STATE_GETTERS = new ClassValue<>() {
+        @Override
+        protected List<MethodHandle> computeValue(Class<?> type) {
+            List<MethodHandle> getters = new ArrayList<>();
+            for (FieldHandles field : FIELDS.get(type)) {
+                if (field.state) {
+                    getters.add(field.getter);
+                }
+            }
+            return Collections.unmodifiableList(getters);
+        }
+    };
+
+    private static final ClassValue<MethodHandle> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                return MethodHandles.privateLookupIn(type, MethodHandles.lookup())
+                        .findConstructor(type, MethodType.methodType(void.class))
+                        .asType(MethodType.methodType(Object.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new IllegalStateException("Unable to copy " + type.getName(), e);
+            }
+        }
+    };
+
+    private final Predicate<Class<?>> copiedTypes;
+    private final Map<Object, Object> copies = new IdentityHashMap<>();
+
+    /**
+     * @param copiedTypes Whether the objects of a class are copied, rather than shared with the original
+     */
+    public ObjectGraphCopier(Predicate<Class<?>> copiedTypes) {
+        this.copiedTypes = copiedTypes;
+    }
+
+    /**
+     * Gets the getters of the state of a class: its instance fields and those it inherits from classes outside the JDK,
+     * except the transient and synthetic ones. Each getter takes an {@link Object} and returns an {@link Object}.
+     *
+     * @param type A class
+     * @return The getters of the fields of the class, superclass fields last
+     * @throws IllegalStateException if the fields can't be accessed
+     */
+    public static List<MethodHandle> stateGetters(Class<?> type) {
+        return STATE_GETTERS.get(type);
+    }
+
+    /**
+     * @param value The root of the graph to copy
+     * @param <T>   The type of the root
+     * @return A copy of the graph
+     * @throws IllegalStateException if an object can't be copied, e.g. because its class has no no-argument constructor
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T copy(T value) {
+        return (T) copyValue(value);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object copyValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        Object copy = copies.get(value);
+        if (copy != null) {
+            return copy;
+        }
+
+        Class<?> type = value.getClass();
+        if (value instanceof Enum) {
+            return value;
+        } else if (copiedTypes.test(type)) {
+            return copyObject(value);
+        } else if (value instanceof JsonNode) {
+            copy = ((JsonNode) value).deepCopy();
+        } else if (value instanceof Date) {
+            copy = ((Date) value).clone();
+        } else if (type.isArray()) {
+            int length = Array.getLength(value);
+            copy = Array.newInstance(type.getComponentType(), length);
+            copies.put(value, copy);
+            for (int i = 0; i < length; i++) {
+                Array.set(copy, i, type.getComponentType().isPrimitive() ? Array.get(value, i) : copyValue(Array.get(value, i)));
+            }
+        } else if (value instanceof List) {
+            List<Object> list = new ArrayList<>(((List<?>) value).size());
+            copies.put(value, list);
+            for (Object element : (List<?>) value) {
+                list.add(copyValue(element));
+            }
+            copy = list;
+        } else if (value instanceof Map) {
+            Map<Object, Object> map = value instanceof TreeMap ? new TreeMap<>(((TreeMap) value).comparator())
+                    : type == HashMap.class ? new HashMap<>() : new LinkedHashMap<>();
+            copies.put(value, map);
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                map.put(entry.getKey(), copyValue(entry.getValue()));
+            }
+            copy = map;
+        } else if (value instanceof Set) {
+            Set<Object> set = value instanceof TreeSet ? new TreeSet<>(((TreeSet) value).comparator())
+                    : type == HashSet.class ? new HashSet<>() : new LinkedHashSet<>();
+            copies.put(value, set);
+            for (Object element : (Set<?>) value) {
+                set.add(copyValue(element));
+            }
+            copy = set;
+        } else {
+            return value;
+        }
+        copies.put(value, copy);
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object copyObject(Object value) {
+        try {
+            Object copy = (Object) CONSTRUCTORS.get(value.getClass()).invokeExact();
+            copies.put(value, copy);
+            for (FieldHandles field : FIELDS.get(value.getClass())) {
+                Object fieldValue = (Object) field.getter.invokeExact(value);
+                if (field.setter != null) {
+                    field.setter.invokeExact(copy, copyValue(fieldValue));
+                } else {
+                    copyInto(fieldValue, (Object) field.getter.invokeExact(copy));
+                }
+            }
+            // the copied types extending collections, such as Paths and ApiResponses
+            if (value instanceof Map) {
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    ((Map<Object, Object>) copy).put(entry.getKey(), copyValue(entry.getValue()));
+                }
+            } else if (value instanceof Collection) {
+                for (Object element : (Collection<?>) value) {
+                    ((Collection<Object>) copy).add(copyValue(element));
+                }
+            }
+            return copy;
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Unable to copy " + value.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * Copies the elements of a final collection field into the collection the copy was created with.
+     */
+    @SuppressWarnings("unchecked")
+    private void copyInto(Object value, Object target) {
+        if (value == target) {
+            return;
+        }
+        if (value instanceof Collection && target instanceof Collection && !copies.containsKey(value)) {
+            copies.put(value, target);
+            ((Collection<Object>) target).clear();
+            for (Object element : (Collection<?>) value) {
+                ((Collection<Object>) target).add(copyValue(element));
+            }
+        } else if (value instanceof Map && target instanceof Map && !copies.containsKey(value)) {
+            copies.put(value, target);
+            ((Map<Object, Object>) target).clear();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                ((Map<Object, Object>) target).put(entry.getKey(), copyValue(entry.getValue()));
+            }
+        } else {
+            throw new IllegalStateException("Unable to copy a final field holding " + value);
+        }
+    }
+
+    private static final class FieldHandles {
+        private final MethodHandle getter;
+        // null for final fields
+        private final MethodHandle setter;
+        // false for transient and synthetic fields
+        private final boolean state;
+
+        FieldHandles(MethodHandle getter, MethodHandle setter, boolean state) {
+            this.getter = getter;
+            this.setter = setter;
+            this.state = state;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.*;
+
+/**
+ * How the schemas in the 'components/schemas' section of an OpenAPI document are referenced from its paths.
+ * <p>
+ * All sets are computed in a single traversal of the paths (following each referenced schema once) and are
+ * backed by hash sets, so building and querying them is linear in the size of the document.
+ * Instances are immutable snapshots; see {@link ModelUtils#getSchemaUsage(OpenAPI)}.
+ */
+public final class SchemaUsage {
+    private static final Set<String> FORM_MIME_TYPES = Set.of("application/x-www-form-urlencoded", "multipart/form-data");
+
+    private final Map<String, List<String>> childrenMap;
+    private final Set<String> usedSchemas = new LinkedHashSet<>();
+    private final Set<String> unusedSchemas = new LinkedHashSet<>();
+    private final Set<String> schemasUsedOnlyInFormParam = new LinkedHashSet<>();
+
+    // identifies the state of the document the usage was computed from, see isCurrent
+    private final Object paths;
+    private final int pathCount;
+    private final Map<String, Schema> schemas;
+    private final int schemaCount;
+
+    private SchemaUsage(OpenAPI openAPI) {
+        this.paths = openAPI.getPaths();
+        this.pathCount = openAPI.getPaths() == null ? 0 : openAPI.getPaths().size();
+        this.schemas = ModelUtils.getSchemas(openAPI);
+        this.schemaCount = schemas.size();
+        this.childrenMap = childrenMapOf(openAPI);
+
+        Set<String> usedInOtherCases = new HashSet<>();
+        ModelUtils.visitOpenAPI(openAPI, (s, mimeType) -> {
+            if (s.get$ref() == null) {
+                return;
+            }
+            String ref = ModelUtils.getSimpleRef(s.get$ref());
+            usedSchemas.add(ref);
+            if (childrenMap.containsKey(ref)) {
+                usedSchemas.addAll(childrenMap.get(ref));
+            }
+            if (mimeType != null && FORM_MIME_TYPES.contains(mimeType.toLowerCase(Locale.ROOT))) {
+                schemasUsedOnlyInFormParam.add(ref);
+            } else {
+                usedInOtherCases.add(ref);
+            }
+        });
+        schemasUsedOnlyInFormParam.removeAll(usedInOtherCases);
+
+        for (String name : schemas.keySet()) {
+            if (!usedSchemas.contains(name)) {
+                unusedSchemas.add(name);
+            }
+        }
+    }
+
+    /**
+     * Computes the schema usage of an OpenAPI document.
+     *
+     * @param openAPI the OpenAPI document
+     * @return the schema usage
+     */
+    public static SchemaUsage of(OpenAPI openAPI) {
+        return new SchemaUsage(openAPI);
+    }
+
+    private static Map<String, List<String>> childrenMapOf(OpenAPI openAPI) {
+        try {
+            return ModelUtils.getChildrenMap(openAPI);
+        } catch (NullPointerException npe) {
+            // in rare cases, such as a spec document with only one top-level oneOf schema and multiple referenced schemas,
+            // the stream used in getChildrenMap will raise an NPE. We consider such schemas to have no children.
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * Determines whether this usage still describes the given document, i.e. whether the paths or the schemas of
+     * the document have not been replaced, added or removed since it was computed. In-place changes of
+     * existing paths or schemas are not detected.
+     *
+     * @param openAPI the OpenAPI document this usage was computed from
+     * @return true if the paths and schemas of the document are unchanged
+     */
+    boolean isCurrent(OpenAPI openAPI) {
+        return paths == openAPI.getPaths()
+                && pathCount == (openAPI.getPaths() == null ? 0 : openAPI.getPaths().size())
+                && schemas == ModelUtils.getSchemas(openAPI)
+                && schemaCount == schemas.size();
+    }
+
+    /**
+     * @return the names of the schemas referenced (directly or transitively) from the paths, and their children,
+     * in the order in which they were first encountered
+     */
+    public Set<String> getUsedSchemas() {
+        return Collections.unmodifiableSet(usedSchemas);
+    }
+
+    /**
+     * @return the names of the schemas which are not used, in the order in which they are declared
+     */
+    public Set<String> getUnusedSchemas() {
+        return Collections.unmodifiableSet(unusedSchemas);
+    }
+
+    /**
+     * @return the names of the schemas only used in 'application/x-www-form-urlencoded' or 'multipart/form-data' content
+     */
+    public Set<String> getSchemasUsedOnlyInFormParam() {
+        return Collections.unmodifiableSet(schemasUsedOnlyInFormParam);
+    }
+
+    /**
+     * @return the names of the child schemas of each parent schema, see {@link ModelUtils#getChildrenMap(OpenAPI)}
+     */
+    public Map<String, List<String>> getChildrenMap() {
+        return Collections.unmodifiableMap(childrenMap);
+    }
+
+    /**
+     * @param name the name of a schema
+     * @return true if the schema is used
+     */
+    public boolean isUsed(String name) {
+        return usedSchemas.contains(name);
+    }
+}
@@ -1,19 +1,17 @@
 package org.openapitools.codegen.utils;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.Ticker;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.openapitools.codegen.config.GlobalSettings;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -21,50 +19,75 @@ import static org.openapitools.codegen.utils.CamelizeOption.UPPERCASE_FIRST_CHAR
 
 public class StringUtils {
     /**
-     * Set the cache size (entry count) of the sanitizedNameCache, camelizedWordsCache and underscoreWordsCache.
+     * Set the maximum number of entries of each name cache (sanitized, camelized, underscored and escaped words).
+     * The caches are unbounded by default, and released at the end of each generation run.
      */
     public static final String NAME_CACHE_SIZE_PROPERTY = "org.openapitools.codegen.utils.namecache.cachesize";
     /**
-     * Set the cache expiry (in seconds) of the sanitizedNameCache, camelizedWordsCache and underscoreWordsCache.
+     * No longer used: the name caches are released at the end of each generation run instead of expiring.
      */
+    @Deprecated
     public static final String NAME_CACHE_EXPIRY_PROPERTY = "org.openapitools.codegen.utils.namecache.expireafter.seconds";
 
-    // A cache of camelized words. The camelize() method is invoked many times with the same
-    // arguments, this cache is used to optimized performance.
-    private static Cache<Pair<String, CamelizeOption>, String> camelizedWordsCache;
-
-    // A cache of underscored words, used to optimize the performance of the underscore() method.
-    private static Cache<String, String> underscoreWordsCache;
-
-    // A cache of escaped words, used to optimize the performance of the escape() method.
-    private static Cache<EscapedNameOptions, String> escapedWordsCache;
-
-    static {
-        int cacheSize = Integer.parseInt(GlobalSettings.getProperty(NAME_CACHE_SIZE_PROPERTY, "200"));
-        int cacheExpiry = Integer.parseInt(GlobalSettings.getProperty(NAME_CACHE_EXPIRY_PROPERTY, "5"));
-        camelizedWordsCache = Caffeine.newBuilder()
-                .maximumSize(cacheSize)
-                .expireAfterAccess(cacheExpiry, TimeUnit.SECONDS)
-                .ticker(Ticker.systemTicker())
-                .build();
-
-        escapedWordsCache = Caffeine.newBuilder()
-                .maximumSize(cacheSize)
-                .expireAfterAccess(cacheExpiry, TimeUnit.SECONDS)
-                .ticker(Ticker.systemTicker())
-                .build();
-
-        underscoreWordsCache = Caffeine.newBuilder()
-                .maximumSize(cacheSize)
-                .expireAfterAccess(cacheExpiry, TimeUnit.SECONDS)
-                .ticker(Ticker.systemTicker())
-                .build();
+    // The name caches of the generation run of the current thread, inherited by the threads it starts to render files.
+    // Outside a run, names are transformed without being cached.
+    private static final InheritableThreadLocal<NameCaches> runNameCaches = new InheritableThreadLocal<>();
+
+    /**
+     * Creates a name cache bounded by the {@link #NAME_CACHE_SIZE_PROPERTY} setting, if any.
+     *
+     * @param name A name for the transformation, used in statistics
+     * @param <K>  The type of the transformation input
+     * @return A new name cache
+     */
+    public static <K> NameCache<K> newNameCache(String name) {
+        return new NameCache<>(name, Long.parseLong(GlobalSettings.getProperty(NAME_CACHE_SIZE_PROPERTY, "-1")));
+    }
+
+    /**
+     * Starts caching the camelized, underscored and escaped words of the generation run of the current thread, and of
+     * the threads it starts, until {@link #releaseNameCaches()} is called.
+     */
+    public static void installNameCaches() {
+        runNameCaches.set(new NameCaches());
+    }
+
+    /**
+     * Releases the camelized, underscored and escaped words cached during the generation run of the current thread,
+     * and stops caching them.
+     *
+     * @return The statistics of each cache during the run, formatted for logging; empty if no caches were installed
+     */
+    public static List<String> releaseNameCaches() {
+        NameCaches caches = runNameCaches.get();
+        runNameCaches.remove();
+        if (caches == null) {
+            return Collections.emptyList();
+        }
+        // the threads started during the run, which may outlive it, stop using the caches too
+        caches.released = true;
+        return Arrays.asList(
+                caches.camelized.describe(caches.camelized.release()),
+                caches.underscored.describe(caches.underscored.release()),
+                caches.escaped.describe(caches.escaped.release()));
+    }
+
+    /**
+     * Transforms a name through a cache of the current generation run, if any.
+     */
+    private static <K> String transform(Function<NameCaches, NameCache<K>> cache, K key, Function<? super K, String> transform) {
+        NameCaches caches = runNameCaches.get();
+        if (caches == null || caches.released) {
+            return transform.apply(key);
+        }
+        return cache.apply(caches).get(key, transform);
     }
 
     private static Pattern capitalLetterPattern = Pattern.compile("([A-Z]+)([A-Z][a-z][a-z]+)");
     private static Pattern lowercasePattern = Pattern.compile("([a-z\\d])([A-Z])");
     private static Pattern pkgSeparatorPattern = Pattern.compile("\\.");
     private static Pattern dollarPattern = Pattern.compile("\\$");
+    private static Pattern dashPattern = Pattern.compile("[_ ]+");
 
     /**
      * Underscore the given word.
@@ -75,7 +98,7 @@ public class StringUtils {
      * @return The underscored version of the word
      */
     public static String underscore(final String word) {
-        return underscoreWordsCache.get(word, wordToUnderscore -> {
+        return transform(caches -> caches.underscored, word, wordToUnderscore -> {
             String result;
             String replacementPattern = "$1_$2";
             // Replace package separator with slash.
@@ -100,7 +123,7 @@ public class StringUtils {
      * @return The dashized version of the word, e.g. "my-name"
      */
     public static String dashize(String word) {
-        return underscore(word).replaceAll("[_ ]+", "-");
+        return dashPattern.matcher(underscore(word)).replaceAll("-");
     }
 
     /**
@@ -132,7 +155,7 @@ public class StringUtils {
     public static String camelize(final String inputWord, CamelizeOption camelizeOption) {
         Pair<String, CamelizeOption> key = new ImmutablePair<>(inputWord, camelizeOption);
 
-        return camelizedWordsCache.get(key, pair -> {
+        return transform(caches -> caches.camelized, key, pair -> {
             String word = pair.getKey();
             CamelizeOption option = pair.getValue();
             // Replace all slashes with dots (package separator)
@@ -215,6 +238,16 @@ public class StringUtils {
         return word;
     }
 
+    /**
+     * The name caches of a generation run.
+     */
+    private static final class NameCaches {
+        private final NameCache<Pair<String, CamelizeOption>> camelized = newNameCache("camelize");
+        private final NameCache<String> underscored = newNameCache("underscore");
+        private final NameCache<EscapedNameOptions> escaped = newNameCache("escape");
+        private volatile boolean released;
+    }
+
     private static class EscapedNameOptions {
         public EscapedNameOptions(String name, Set<String> specialChars, List<String> charactersToAllow, String appendToReplacement) {
             this.name = name;
@@ -267,20 +300,25 @@ public class StringUtils {
     public static String escape(final String name, final Map<String, String> replacementMap,
                                 final List<String> charactersToAllow, final String appendToReplacement) {
         EscapedNameOptions ns = new EscapedNameOptions(name, replacementMap.keySet(), charactersToAllow, appendToReplacement);
-        return escapedWordsCache.get(ns, wordToEscape -> {
-            String result = name.chars().mapToObj(c -> {
-                String character = String.valueOf((char) c);
+        return transform(caches -> caches.escaped, ns, wordToEscape -> {
+            if (name.isEmpty()) {
+                throw new RuntimeException("Word '" + name + "' could not be escaped.");
+            }
+            StringBuilder result = new StringBuilder(name.length());
+            for (int i = 0; i < name.length(); i++) {
+                String character = String.valueOf(name.charAt(i));
                 if (charactersToAllow != null && charactersToAllow.contains(character)) {
-                    return character;
+                    result.append(character);
                 } else if (replacementMap.containsKey(character)) {
-                    return replacementMap.get(character) + (appendToReplacement != null ? appendToReplacement: "");
+                    result.append(replacementMap.get(character));
+                    if (appendToReplacement != null) {
+                        result.append(appendToReplacement);
+                    }
                 } else {
-                    return character;
+                    result.append(character);
                 }
-            }).reduce( (c1, c2) -> c1 + c2).orElse(null);
-
-            if (result != null) return result;
-            throw new RuntimeException("Word '" + name + "' could not be escaped.");
+            }
+            return result.toString();
         });
     }
 
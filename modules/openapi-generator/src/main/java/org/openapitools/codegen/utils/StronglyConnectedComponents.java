@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import java.util.*;
+
+/**
+ * The strongly connected components of a directed graph whose nodes are names, e.g. the graph of
+ * model dependencies where an edge leads from a model to the type of each of its properties.
+ * <p>
+ * Two nodes are in the same component if each can be reached from the other, so a node can reach itself
+ * through a cycle exactly when its component has several nodes or it has an edge to itself.
+ * The components are computed in time linear in the size of the graph (Tarjan's algorithm, without recursion
+ * so that long dependency chains can't overflow the stack).
+ */
+public final class StronglyConnectedComponents {
+    private final Map<String, Set<String>> componentsByNode = new HashMap<>();
+    private final List<Set<String>> components = new ArrayList<>();
+    private final Set<String> selfReferencing = new HashSet<>();
+
+    /**
+     * Computes the strongly connected components of a graph.
+     *
+     * @param edges the targets of the edges leaving each node; targets without an entry of their own have no edges
+     */
+    public StronglyConnectedComponents(Map<String, ? extends Collection<String>> edges) {
+        Map<String, Integer> index = new HashMap<>();
+        Map<String, Integer> lowLink = new HashMap<>();
+        Deque<String> stack = new ArrayDeque<>();
+        Set<String> onStack = new HashSet<>();
+        Deque<Map.Entry<String, Iterator<String>>> path = new ArrayDeque<>();
+
+        for (String root : edges.keySet()) {
+            if (index.containsKey(root)) {
+                continue;
+            }
+            index.put(root, index.size());
+            lowLink.put(root, index.get(root));
+            stack.push(root);
+            onStack.add(root);
+            path.push(new AbstractMap.SimpleImmutableEntry<>(root, targetsOf(edges, root).iterator()));
+
+            while (!path.isEmpty()) {
+                String node = path.peek().getKey();
+                Iterator<String> targets = path.peek().getValue();
+                if (targets.hasNext()) {
+                    String target = targets.next();
+                    if (node.equals(target)) {
+                        selfReferencing.add(node);
+                    }
+                    if (!index.containsKey(target)) {
+                        index.put(target, index.size());
+                        lowLink.put(target, index.get(target));
+                        stack.push(target);
+                        onStack.add(target);
+                        path.push(new AbstractMap.SimpleImmutableEntry<>(target, targetsOf(edges, target).iterator()));
+                    } else if (onStack.contains(target)) {
+                        lowLink.put(node, Math.min(lowLink.get(node), index.get(target)));
+                    }
+                    continue;
+                }
+
+                path.pop();
+                if (!path.isEmpty()) {
+                    String parent = path.peek().getKey();
+                    lowLink.put(parent, Math.min(lowLink.get(parent), lowLink.get(node)));
+                }
+                if (lowLink.get(node).equals(index.get(node))) {
+                    Set<String> component = new LinkedHashSet<>();
+                    String member;
+                    do {
+                        member = stack.pop();
+                        onStack.remove(member);
+                        component.add(member);
+                        componentsByNode.put(member, component);
+                    } while (!member.equals(node));
+                    components.add(Collections.unmodifiableSet(component));
+                }
+            }
+        }
+    }
+
+    private static Collection<String> targetsOf(Map<String, ? extends Collection<String>> edges, String node) {
+        Collection<String> targets = edges.get(node);
+        return targets == null ? Collections.emptyList() : targets;
+    }
+
+    /**
+     * @return the components, each listed after all components reachable from it
+     */
+    public List<Set<String>> getComponents() {
+        return Collections.unmodifiableList(components);
+    }
+
+    /**
+     * @param node a node of the graph
+     * @return the component of the node, or an empty set if the node is not part of the graph
+     */
+    public Set<String> getComponent(String node) {
+        Set<String> component = componentsByNode.get(node);
+        return component == null ? Collections.emptySet() : Collections.unmodifiableSet(component);
+    }
+
+    /**
+     * @param source a node of the graph
+     * @param target another (or the same) node of the graph
+     * @return true if each of the nodes can be reached from the other through a path of at least one edge
+     */
+    public boolean areStronglyConnected(String source, String target) {
+        if (source.equals(target)) {
+            return isCyclic(source);
+        }
+        Set<String> component = componentsByNode.get(source);
+        return component != null && component.contains(target);
+    }
+
+    /**
+     * @param node a node of the graph
+     * @return true if the node is part of a cycle, i.e. it can be reached from itself
+     */
+    public boolean isCyclic(String node) {
+        Set<String> component = componentsByNode.get(node);
+        return component != null && (component.size() > 1 || selfReferencing.contains(node));
+    }
+}
@@ -10,13 +10,28 @@ import io.swagger.v3.oas.models.tags.Tag;
 import org.openapitools.codegen.utils.ModelUtils;
 import org.openapitools.codegen.validation.*;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * A validator which evaluates an OpenAPI 3.x specification document
+ * <p>
+ * The schemas, operations, security schemes and parameters of the document are validated in parallel on the
+ * common fork-join pool. Their results are added in document order, so the output does not depend on scheduling.
  */
 public class OpenApiEvaluator implements Validator<OpenAPI> {
+    public static final String UNUSED_SCHEMAS = "Unused schemas";
+    public static final String SCHEMAS = "Schemas";
+    public static final String OPERATIONS = "Operations";
+    public static final String SECURITY_SCHEMES = "Security schemes";
+    public static final String PARAMETERS = "Parameters";
+    public static final String TAGS = "Tags";
+
     private RuleConfiguration ruleConfiguration;
+    private final Map<String, LongAdder> timings = new LinkedHashMap<>();
 
     /**
      * Constructs a new instance of {@link OpenApiEvaluator} with applied rules.
@@ -36,6 +51,7 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
     @Override
     public ValidationResult validate(OpenAPI specification) {
         ValidationResult validationResult = new ValidationResult();
+        timings.clear();
         if (specification == null) return validationResult;
 
         OpenApiParameterValidations parameterValidations = new OpenApiParameterValidations(ruleConfiguration);
@@ -45,18 +61,20 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
 
         if (ruleConfiguration.isEnableUnusedSchemasRecommendation()) {
             ValidationRule unusedSchema = ValidationRule.create(Severity.WARNING, "Unused schema", "A schema was determined to be unused.", s -> ValidationRule.Pass.empty());
-            ModelUtils.getUnusedSchemas(specification).forEach(schemaName -> validationResult.addResult(Validated.invalid(unusedSchema, "Unused model: " + schemaName)));
+            validateAll(validationResult, UNUSED_SCHEMAS, Collections.singletonList(specification), spec -> {
+                ValidationResult unused = new ValidationResult();
+                ModelUtils.getUnusedSchemas(spec).forEach(schemaName -> unused.addResult(Validated.invalid(unusedSchema, "Unused model: " + schemaName)));
+                return unused;
+            });
         }
 
         // Get list of all schemas under /components/schemas, including nested schemas defined inline and composed schema.
         // The validators must be able to validate every schema defined in the OAS document.
         List<Schema> schemas = ModelUtils.getAllSchemas(specification);
-        schemas.forEach(schema -> {
-            SchemaWrapper wrapper = new SchemaWrapper(specification, schema);
-            validationResult.consume(schemaValidations.validate(wrapper));
-        });
+        validateAll(validationResult, SCHEMAS, schemas, schema -> schemaValidations.validate(new SchemaWrapper(specification, schema)));
 
         List<Parameter> parameters = new ArrayList<>(50);
+        List<OperationWrapper> operations = new ArrayList<>();
 
         Paths paths = specification.getPaths();
         if (paths != null) {
@@ -72,21 +90,19 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
                             parameters.addAll(op.getParameters());
                         }
 
-                        OperationWrapper wrapper = new OperationWrapper(specification, op, httpMethod);
-                        validationResult.consume(operationValidations.validate(wrapper));
+                        operations.add(new OperationWrapper(specification, op, httpMethod));
                     }
                 });
             });
         }
+        validateAll(validationResult, OPERATIONS, operations, operationValidations::validate);
 
         Components components = specification.getComponents();
         if (components != null) {
             Map<String, SecurityScheme> securitySchemes = components.getSecuritySchemes();
             if (securitySchemes != null && !securitySchemes.isEmpty()) {
-                securitySchemes.values().forEach(securityScheme -> {
-                    SecuritySchemeWrapper wrapper = new SecuritySchemeWrapper(specification, securityScheme);
-                    validationResult.consume(securitySchemeValidations.validate(wrapper));
-                });
+                validateAll(validationResult, SECURITY_SCHEMES, new ArrayList<>(securitySchemes.values()),
+                        securityScheme -> securitySchemeValidations.validate(new SecuritySchemeWrapper(specification, securityScheme)));
             }
 
             if (components.getParameters() != null) {
@@ -94,14 +110,12 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
             }
         }
 
-        parameters.forEach(parameter -> {
-            parameter = ModelUtils.getReferencedParameter(specification, parameter);
-            ParameterWrapper wrapper = new ParameterWrapper(specification, parameter);
-            validationResult.consume(parameterValidations.validate(wrapper));
-        });
+        validateAll(validationResult, PARAMETERS, parameters, parameter ->
+                parameterValidations.validate(new ParameterWrapper(specification, ModelUtils.getReferencedParameter(specification, parameter))));
 
         List<Tag> tags = specification.getTags();
         if (tags != null && tags.size() > 1) {
+            long start = System.nanoTime();
             Set<String> distinct = new HashSet<>();
             Set<String> duplicated = new HashSet<>();
             tags.forEach(tag -> {
@@ -119,8 +133,40 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
                 ValidationRule rule = ValidationRule.warn("Duplicate tags", "The specification requires that tag names are unique.", s -> ValidationRule.Fail.empty());
                 validationResult.addResult(Validated.invalid(rule, "Duplicated tag(s): " + String.join(",", duplicated)));
             }
+            timings.computeIfAbsent(TAGS, k -> new LongAdder()).add(System.nanoTime() - start);
         }
 
         return validationResult;
     }
+
+    /**
+     * Gets the time spent by each category of validations (e.g. {@link #SCHEMAS}) during the last call to
+     * {@link #validate(OpenAPI)}, in the order they ran. As validations of a category run in parallel, this is the
+     * sum of the time spent on each thread.
+     *
+     * @return The time spent by each category of validations which ran
+     */
+    public Map<String, Duration> getTimings() {
+        Map<String, Duration> result = new LinkedHashMap<>();
+        timings.forEach((category, nanos) -> result.put(category, Duration.ofNanos(nanos.sum())));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Validates inputs in parallel, then adds their results in the order of the inputs.
+     */
+    private <T> void validateAll(ValidationResult validationResult, String category, List<T> inputs, Function<T, ValidationResult> validation) {
+        LongAdder elapsed = timings.computeIfAbsent(category, k -> new LongAdder());
+        List<ValidationResult> results = inputs.parallelStream()
+                .map(input -> {
+                    long start = System.nanoTime();
+                    try {
+                        return validation.apply(input);
+                    } finally {
+                        elapsed.add(System.nanoTime() - start);
+                    }
+                })
+                .collect(Collectors.toList());
+        results.forEach(validationResult::consume);
+    }
 }
@@ -0,0 +1,90 @@
+package org.openapitools.codegen;
+
+import org.openapitools.codegen.languages.JavaClientCodegen;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+public class CodegenConfigLoaderTest {
+
+    @Test
+    public void forNameReturnsNewInstances() {
+        CodegenConfig first = CodegenConfigLoader.forName("java");
+        CodegenConfig second = CodegenConfigLoader.forName("java");
+
+        assertTrue(first instanceof JavaClientCodegen);
+        assertEquals(first.getName(), "java");
+        assertNotSame(second, first);
+    }
+
+    @Test
+    public void forNameLoadsClassNames() {
+        CodegenConfig config = CodegenConfigLoader.forName(JavaClientCodegen.class.getName());
+
+        assertTrue(config instanceof JavaClientCodegen);
+    }
+
+    @Test
+    public void forNameListsAvailableGenerators() {
+        try {
+            CodegenConfigLoader.forName("not-a-generator");
+            fail("Expected a GeneratorNotFoundException");
+        } catch (GeneratorNotFoundException e) {
+            assertTrue(e.getMessage().contains("\njava\n"), e.getMessage());
+        }
+    }
+
+    @Test
+    public void indexMatchesGenerators() {
+        Map<String, CodegenConfigIndex.Entry> index = CodegenConfigIndex.read(CodegenConfig.class.getClassLoader());
+
+        for (CodegenConfig config : CodegenConfigLoader.getAll()) {
+            CodegenConfigIndex.Entry indexed = index.get(config.getClass().getName());
+            if (indexed != null) {
+                assertEquals(indexed.name, config.getName(), config.getClass().getName());
+                assertEquals(indexed.type, config.getTag(), config.getClass().getName());
+            }
+            assertEquals(CodegenConfigLoader.forName(config.getName()).getClass(), config.getClass());
+        }
+    }
+
+    @Test
+    public void getNamesListsGeneratorsByType() {
+        List<String> names = CodegenConfigLoader.getNames(CodegenType.CLIENT, CodegenType.DOCUMENTATION);
+
+        assertTrue(names.contains("java"));
+        assertTrue(names.contains("html"));
+        assertFalse(names.contains("spring"));
+    }
+
+    @Test
+    public void findsGeneratorsRenamedSinceTheyWereIndexed() throws IOException {
+        Path index = Files.createTempFile("generator-names", ".properties");
+        try {
+            Files.writeString(index, JavaClientCodegen.class.getName() + "=renamed-java,CLIENT\n");
+            ClassLoader classLoader = new ClassLoader(CodegenConfig.class.getClassLoader()) {
+                @Override
+                public Enumeration<URL> getResources(String name) throws IOException {
+                    return CodegenConfigIndex.RESOURCE.equals(name)
+                            ? Collections.enumeration(List.of(index.toUri().toURL())) : super.getResources(name);
+                }
+            };
+            CodegenConfigLoader.Registry registry = new CodegenConfigLoader.Registry(classLoader);
+
+            assertTrue(registry.find("java") instanceof JavaClientCodegen);
+            assertNull(registry.find("renamed-java"));
+            assertFalse(registry.getNames().contains("renamed-java"));
+        } finally {
+            Files.delete(index);
+        }
+    }
+}
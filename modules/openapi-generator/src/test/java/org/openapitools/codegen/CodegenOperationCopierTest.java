@@ -0,0 +1,52 @@
+package org.openapitools.codegen;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+public class CodegenOperationCopierTest {
+    @Test
+    public void copiesTheObjectsOfTheOperation() {
+        CodegenOperation operation = new CodegenOperation();
+        operation.operationId = "listPets";
+        operation.vendorExtensions.put("x-group", "pets");
+        CodegenParameter limit = new CodegenParameter();
+        limit.paramName = "limit";
+        limit.items = new CodegenProperty();
+        operation.allParams.add(limit);
+        operation.queryParams.add(limit);
+        CodegenResponse response = new CodegenResponse();
+        response.code = "200";
+        operation.responses.add(response);
+        operation.authMethods = new ArrayList<>(List.of(new CodegenSecurity()));
+
+        CodegenOperation copy = CodegenOperationCopier.copy(operation);
+
+        assertNotSame(copy, operation);
+        assertEquals(copy, operation);
+        assertNotSame(copy.allParams, operation.allParams);
+        assertNotSame(copy.allParams.get(0), limit);
+        assertEquals(copy.allParams.get(0).paramName, "limit");
+        assertSame(copy.queryParams.get(0), copy.allParams.get(0), "objects shared within the operation stay shared");
+        assertSame(copy.allParams.get(0).items, limit.items, "properties are shared with the original");
+        assertNotSame(copy.responses.get(0), response);
+        assertNotSame(copy.authMethods.get(0), operation.authMethods.get(0));
+
+        copy.operationId = "listPets_0";
+        copy.vendorExtensions.put("x-group", "store");
+        copy.allParams.get(0).paramName = "max";
+        assertEquals(operation.operationId, "listPets");
+        assertEquals(operation.vendorExtensions.get("x-group"), "pets");
+        assertEquals(limit.paramName, "limit");
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void failsOnOperationsWithoutNoArgumentConstructor() {
+        CodegenOperationCopier.copy(new CodegenOperation() {
+            final Object outer = CodegenOperationCopierTest.this;
+        });
+    }
+}
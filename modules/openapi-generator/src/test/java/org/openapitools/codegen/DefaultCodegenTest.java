@@ -1994,6 +1994,26 @@ public class DefaultCodegenTest {
         Assertions.assertFalse(codegen.fromProperty("current", (Schema) requestProperties.get("current")).deprecated);
     }
 
+    @Test
+    public void testFromPropertyCacheIsKeyedBySchemaIdentity() {
+        OpenAPI openAPI = TestUtils.createOpenAPI();
+        final DefaultCodegen codegen = new DefaultCodegen();
+        codegen.setOpenAPI(openAPI);
+        final Schema schema = new StringSchema().maxLength(10);
+
+        final CodegenProperty first = codegen.fromProperty("someProperty", schema);
+        Assertions.assertSame(codegen.fromProperty("someProperty", schema), first);
+        Assertions.assertEquals(codegen.getPropertyCacheHits(), 1);
+        Assertions.assertEquals(codegen.getPropertyCacheMisses(), 1);
+
+        // an equal but distinct schema is converted again
+        final CodegenProperty other = codegen.fromProperty("someProperty", new StringSchema().maxLength(10));
+        Assertions.assertNotSame(other, first);
+        Assertions.assertEquals(other.maxLength, first.maxLength);
+        Assertions.assertEquals(codegen.getPropertyCacheHits(), 1);
+        Assertions.assertEquals(codegen.getPropertyCacheMisses(), 2);
+    }
+
     @Test
     public void integerSchemaPropertyAndModelTest() {
         OpenAPI openAPI = TestUtils.createOpenAPI();
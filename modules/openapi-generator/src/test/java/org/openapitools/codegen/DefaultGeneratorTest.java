@@ -11,8 +11,12 @@ import io.swagger.v3.oas.models.parameters.QueryParameter;
 import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.security.SecurityRequirement;
+import io.swagger.v3.oas.models.tags.Tag;
+import org.mockito.Mockito;
 import org.openapitools.codegen.config.CodegenConfigurator;
 import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.languages.JavaClientCodegen;
 import org.openapitools.codegen.model.ModelMap;
 import org.openapitools.codegen.model.OperationsMap;
 import org.openapitools.codegen.utils.ModelUtils;
@@ -26,6 +30,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.stream.Collectors;
 
 public class DefaultGeneratorTest {
 
@@ -344,6 +349,78 @@ public class DefaultGeneratorTest {
         }
     }
 
+    @Test
+    public void testProcessPathsConvertsOperationOncePerTag() throws Exception {
+        OpenAPI openAPI = TestUtils.createOpenAPI();
+        openAPI.addTagsItem(new Tag().name("pet").description("Everything about pets"));
+        openAPI.setPaths(new Paths());
+        openAPI.getPaths().addPathItem("/pets", new PathItem().get(new Operation().operationId("listPets")
+                .addTagsItem("pet").addTagsItem("store").addTagsItem("v1")
+                .addParametersItem(new QueryParameter().name("limit").schema(new IntegerSchema()))
+                .responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("OK")))));
+
+        ClientOptInput opts = new ClientOptInput();
+        opts.openAPI(openAPI);
+        DefaultCodegen config = Mockito.spy(new DefaultCodegen());
+        opts.config(config);
+
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.opts(opts);
+        Map<String, List<CodegenOperation>> result = generator.processPaths(openAPI.getPaths());
+
+        Mockito.verify(config, Mockito.times(1)).fromOperation(Mockito.eq("/pets"), Mockito.eq("get"), Mockito.any(), Mockito.any());
+        Assert.assertEquals(result.keySet(), Set.of("Pet", "Store", "V1"));
+        CodegenOperation pet = result.get("Pet").get(0);
+        CodegenOperation store = result.get("Store").get(0);
+        CodegenOperation v1 = result.get("V1").get(0);
+        Assert.assertNotSame(pet, store);
+        Assert.assertNotSame(store, v1);
+        Assert.assertNotSame(pet.allParams.get(0), store.allParams.get(0));
+        Assert.assertEquals(pet.baseName, "Pet");
+        Assert.assertEquals(store.baseName, "Store");
+        Assert.assertEquals(pet.allParams, store.allParams);
+        Assert.assertEquals(pet.tags.get(0).getDescription(), "Everything about pets");
+        Assert.assertEquals(v1.tags.get(2).getName(), "v1");
+    }
+
+    @Test
+    public void testProcessPathsConvertsSecurityOncePerRequirements() throws Exception {
+        OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/petstore.yaml");
+        Set<List<SecurityRequirement>> requirements = openAPI.getPaths().values().stream()
+                .flatMap(path -> path.readOperations().stream())
+                .map(Operation::getSecurity)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        ClientOptInput opts = new ClientOptInput();
+        opts.openAPI(openAPI);
+        DefaultCodegen config = Mockito.spy(new DefaultCodegen());
+        opts.config(config);
+
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.opts(opts);
+        Map<String, List<CodegenOperation>> result = generator.processPaths(openAPI.getPaths());
+        Mockito.verify(config, Mockito.times(requirements.size())).fromSecurity(Mockito.any());
+
+        Map<String, CodegenOperation> operations = result.values().stream().flatMap(List::stream)
+                .collect(Collectors.toMap(op -> op.operationId, op -> op));
+        CodegenOperation findPetsByStatus = operations.get("findPetsByStatus");
+        CodegenOperation findPetsByTags = operations.get("findPetsByTags");
+        CodegenOperation addPet = operations.get("addPet");
+        Assert.assertSame(findPetsByStatus.authMethods, findPetsByTags.authMethods);
+        Assert.assertNotSame(findPetsByStatus.authMethods, addPet.authMethods);
+        Assert.assertEquals(findPetsByStatus.authMethods.get(0).scopes.size(), 1);
+        Assert.assertEquals(addPet.authMethods.get(0).scopes.size(), 2);
+
+        Map<String, Object> first = new HashMap<>();
+        Map<String, Object> second = new HashMap<>();
+        generator.addAuthenticationSwitches(first);
+        generator.addAuthenticationSwitches(second);
+        Mockito.verify(config, Mockito.times(requirements.size() + 1)).fromSecurity(Mockito.any());
+        Assert.assertSame(first.get("authMethods"), second.get("authMethods"));
+        Assert.assertEquals(first.get("hasOAuthMethods"), Boolean.TRUE);
+    }
+
     @Test
     public void testNonStrictProcessPaths() throws Exception {
         OpenAPI openAPI = TestUtils.createOpenAPI();
@@ -970,4 +1047,133 @@ public class DefaultGeneratorTest {
         }
     }
 
+    @Test
+    public void testParallelRenderingMatchesSerialRendering() throws IOException {
+        Path serialTarget = Files.createTempDirectory("serial");
+        Path parallelTarget = Files.createTempDirectory("parallel");
+        try {
+            List<File> serialFiles = generatePetstore(serialTarget, "1");
+            List<File> parallelFiles = generatePetstore(parallelTarget, "4");
+
+            Assert.assertEquals(relativize(parallelTarget, parallelFiles), relativize(serialTarget, serialFiles));
+            Assert.assertEquals(
+                    Files.readAllBytes(parallelTarget.resolve(".openapi-generator/FILES")),
+                    Files.readAllBytes(serialTarget.resolve(".openapi-generator/FILES")));
+            String pet = "docs/Pet.md";
+            Assert.assertEquals(Files.readAllBytes(parallelTarget.resolve(pet)), Files.readAllBytes(serialTarget.resolve(pet)));
+        } finally {
+            serialTarget.toFile().deleteOnExit();
+            parallelTarget.toFile().deleteOnExit();
+        }
+    }
+
+    private List<File> generatePetstore(Path target, String renderingThreads) {
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setOutputDir(target.toAbsolutePath().toString());
+
+        DefaultGenerator generator = new DefaultGenerator(false);
+        generator.setGeneratorPropertyDefault(CodegenConstants.RENDERING_THREADS, renderingThreads);
+        return generator.opts(configurator.toClientOptInput()).generate();
+    }
+
+    private List<String> relativize(Path target, List<File> files) {
+        List<String> paths = new ArrayList<>();
+        for (File file : files) {
+            paths.add(target.toAbsolutePath().relativize(file.toPath().toAbsolutePath()).toString());
+        }
+        return paths;
+    }
+
+    @Test
+    public void testIncrementalGeneration() throws IOException {
+        Path target = Files.createTempDirectory("test");
+        try {
+            Path modelDir = target.resolve("src/main/java/org/openapitools/client/model");
+
+            OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/petstore.yaml");
+            openAPI.getComponents().addSchemas("Obsolete", new Schema<>().type("object").addProperty("id", new IntegerSchema()));
+            generateIncrementally(openAPI, target);
+            Assert.assertTrue(Files.exists(target.resolve(".openapi-generator/INPUTS")));
+            Assert.assertTrue(Files.exists(modelDir.resolve("Obsolete.java")));
+            Assert.assertTrue(Files.exists(target.resolve("src/test/java/org/openapitools/client/model/ObsoleteTest.java")));
+
+            // files whose inputs are unchanged aren't generated again
+            Files.writeString(modelDir.resolve("Pet.java"), "unchanged");
+            Files.writeString(modelDir.resolve("Order.java"), "changed");
+
+            openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/petstore.yaml");
+            openAPI.getComponents().getSchemas().get("Order").addProperty("note", new StringSchema());
+            List<File> files = generateIncrementally(openAPI, target);
+
+            Assert.assertEquals(Files.readString(modelDir.resolve("Pet.java")), "unchanged");
+            TestUtils.ensureContainsFile(files, target.toFile(), "src/main/java/org/openapitools/client/model/Pet.java");
+            Assert.assertTrue(Files.readString(modelDir.resolve("Order.java")).contains("getNote()"));
+            // files no longer generated are deleted, except tests
+            Assert.assertFalse(Files.exists(modelDir.resolve("Obsolete.java")));
+            Assert.assertFalse(Files.exists(target.resolve("docs/Obsolete.md")));
+            Assert.assertTrue(Files.exists(target.resolve("src/test/java/org/openapitools/client/model/ObsoleteTest.java")));
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(target.toFile());
+        }
+    }
+
+    @Test
+    public void testIncrementalGenerationOnlyDeletesFilesInTheOutputDirectory() throws IOException {
+        Path parent = Files.createTempDirectory("test");
+        try {
+            Path target = parent.resolve("output");
+            Path outside = Files.writeString(parent.resolve("outside.txt"), "not generated");
+
+            generateIncrementally(TestUtils.parseFlattenSpec("src/test/resources/3_0/petstore.yaml"), target);
+            Path manifest = target.resolve(".openapi-generator/INPUTS");
+            Files.writeString(manifest, "0000 ../outside.txt\n", StandardOpenOption.APPEND);
+            generateIncrementally(TestUtils.parseFlattenSpec("src/test/resources/3_0/petstore.yaml"), target);
+
+            Assert.assertTrue(Files.exists(outside));
+            Assert.assertFalse(Files.readString(manifest).contains("outside.txt"));
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(parent.toFile());
+        }
+    }
+
+    @Test
+    public void testPostProcessorsAreAwaitedWhenGenerationFails() throws IOException {
+        Path target = Files.createTempDirectory("test");
+        try {
+            List<String> awaited = new ArrayList<>();
+            JavaClientCodegen config = new JavaClientCodegen() {
+                @Override
+                public Map<String, Object> postProcessSupportingFileData(Map<String, Object> objs) {
+                    throw new IllegalStateException("failed");
+                }
+
+                @Override
+                public void awaitPostProcessFiles() {
+                    awaited.add("awaited");
+                    super.awaitPostProcessFiles();
+                }
+            };
+            config.setOutputDir(target.toAbsolutePath().toString());
+            config.setEnablePostProcessFile(true);
+            DefaultGenerator generator = new DefaultGenerator();
+            generator.opts(new ClientOptInput()
+                    .openAPI(TestUtils.parseFlattenSpec("src/test/resources/3_0/petstore.yaml"))
+                    .config(config));
+
+            Assert.expectThrows(IllegalStateException.class, generator::generate);
+            Assert.assertEquals(awaited.size(), 1);
+        } finally {
+            org.apache.commons.io.FileUtils.deleteDirectory(target.toFile());
+        }
+    }
+
+    private static List<File> generateIncrementally(OpenAPI openAPI, Path target) {
+        CodegenConfig config = CodegenConfigLoader.forName("java");
+        config.setOutputDir(target.toAbsolutePath().toString());
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.setGeneratorPropertyDefault(CodegenConstants.INCREMENTAL_GENERATION, "true");
+        return generator.opts(new ClientOptInput().openAPI(openAPI).config(config)).generate();
+    }
 }
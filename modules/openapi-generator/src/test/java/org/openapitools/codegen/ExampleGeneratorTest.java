@@ -1,6 +1,8 @@
 package org.openapitools.codegen;
 
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openapitools.codegen.examples.ExampleCache;
 import org.openapitools.codegen.examples.ExampleGenerator;
 import org.testng.annotations.Test;
 
@@ -325,4 +327,34 @@ public class ExampleGeneratorTest {
         assertEquals(String.format(Locale.ROOT, "{%n  \"example_schema_property\" : \"example schema property value\"%n}"), examples.get(0).get("example"));
         assertEquals("200", examples.get(0).get("statusCode"));
     }
+
+    @Test
+    public void generateWithSharedExampleCache() {
+        OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/example_generator_test.yaml");
+
+        new InlineModelResolver().flatten(openAPI);
+
+        Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
+        List<String> mediaTypes = List.of("application/json", "application/xml");
+        ExampleCache cache = new ExampleCache();
+        List<Map<String, String>> first = new ExampleGenerator(schemas, openAPI, cache)
+                .generate(null, mediaTypes, "ExampleSchema");
+        assertEquals(2, cache.size());
+
+        List<Map<String, String>> second = new ExampleGenerator(schemas, openAPI, cache)
+                .generate(null, mediaTypes, "ExampleSchema");
+        assertEquals(first, second);
+        assertEquals(2, cache.size());
+        assertEquals(String.format(Locale.ROOT, "{%n  \"example_schema_property\" : \"example schema property value\"%n}"), second.get(0).get("example"));
+        assertEquals(new ExampleGenerator(schemas, openAPI).generate(null, mediaTypes, "ExampleSchema"), second);
+
+        Schema reference = new Schema().$ref("#/components/schemas/ExampleSchema");
+        assertEquals(second, new ExampleGenerator(schemas, openAPI, cache).generate(null, mediaTypes, reference));
+        assertEquals(2, cache.size());
+
+        // the XML examples include the names of the models, which may be set afterwards
+        schemas.get("ExampleSchema").setName("Renamed");
+        String xml = new ExampleGenerator(schemas, openAPI, cache).generate(null, mediaTypes, "ExampleSchema").get(1).get("example");
+        assertEquals("<Renamed>\n  <example_schema_property>example schema property value</example_schema_property>\n</Renamed>", xml);
+    }
 }
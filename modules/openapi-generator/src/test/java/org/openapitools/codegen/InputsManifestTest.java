@@ -0,0 +1,43 @@
+package org.openapitools.codegen;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import static org.testng.Assert.*;
+
+public class InputsManifestTest {
+    @Test
+    public void tracksTheFilesOfThePreviousRun() throws IOException {
+        Path file = Files.createTempFile("INPUTS", "");
+        try {
+            Files.writeString(file, "aaa src/Pet.java\nbbb src/Order.java\nccc src/Obsolete.java\nddd src/Kept.java\n");
+            InputsManifest manifest = InputsManifest.read(file);
+
+            assertTrue(manifest.record("src/Pet.java", "aaa"));
+            assertFalse(manifest.record("src/Order.java", "eee"));
+            assertFalse(manifest.record("src/Tag.java", "fff"));
+            manifest.retain("src/Kept.java");
+            manifest.retain("src/Unknown.java");
+
+            assertEquals(manifest.getRemoved(), Set.of("src/Obsolete.java"));
+            assertEquals(manifest.format(), "ddd src/Kept.java\neee src/Order.java\naaa src/Pet.java\nfff src/Tag.java\n");
+
+            manifest.retainAll();
+            assertTrue(manifest.getRemoved().isEmpty());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void isEmptyWithoutPreviousRun() throws IOException {
+        InputsManifest manifest = InputsManifest.read(Path.of("target", "does-not-exist", "INPUTS"));
+
+        assertFalse(manifest.record("src/Pet.java", "aaa"));
+        assertTrue(manifest.getRemoved().isEmpty());
+    }
+}
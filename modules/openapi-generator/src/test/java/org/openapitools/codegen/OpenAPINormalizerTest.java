@@ -235,6 +235,32 @@ public class OpenAPINormalizerTest {
         assertNull(bs2.getEnum()); //ensure the enum has been erased
     }
 
+    @Test
+    public void testOpenAPINormalizerRecordsRuleTimings() {
+        OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/3_0/simplifyBooleanEnum_test.yaml");
+
+        OpenAPINormalizer openAPINormalizer = new OpenAPINormalizer(openAPI, Map.of("SIMPLIFY_BOOLEAN_ENUM", "true"));
+        openAPINormalizer.normalize();
+
+        OpenAPINormalizer.RuleTiming timing = openAPINormalizer.getRuleTimings().get("SIMPLIFY_BOOLEAN_ENUM");
+        assertNotNull(timing);
+        assertTrue(timing.getInvocations() > 0);
+        assertFalse(openAPINormalizer.getRuleTimings().containsKey("REF_AS_PARENT_IN_ALLOF"));
+    }
+
+    @Test
+    public void testOpenAPINormalizerNormalizesEqualSchemasIndependently() {
+        OpenAPINormalizer openAPINormalizer = new OpenAPINormalizer(new OpenAPI(), Map.of("SIMPLIFY_BOOLEAN_ENUM", "true"));
+        Schema first = new BooleanSchema()._enum(Arrays.asList(true, false));
+        Schema second = new BooleanSchema()._enum(Arrays.asList(true, false));
+        Schema schema = new ObjectSchema().addAllOfItem(first).addAllOfItem(second);
+
+        openAPINormalizer.normalizeSchema(schema, OpenAPINormalizer.newVisitedSchemas());
+
+        assertNull(first.getEnum());
+        assertNull(second.getEnum());
+    }
+
     @Test
     public void testOpenAPINormalizerSimplifyBooleanEnumWithComposedSchema() {
         // to test the rule SIMPLIFY_BOOLEAN_ENUM
@@ -0,0 +1,35 @@
+package org.openapitools.codegen;
+
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.testng.Assert.*;
+
+public class OutputFileRegistryTest {
+    @Test
+    public void detectsPathsDifferingOnlyByCase() {
+        OutputFileRegistry registry = new OutputFileRegistry();
+        Path lower = Paths.get("/out/src/model/pet.java").toAbsolutePath();
+        Path upper = Paths.get("/out/src/model/Pet.java").toAbsolutePath();
+
+        assertNull(registry.register(lower, "model.mustache for pet"));
+        OutputFileRegistry.OutputFile previous = registry.register(upper, "model.mustache for Pet");
+
+        assertNotNull(previous);
+        assertEquals(previous.path, lower);
+        assertEquals(previous.origin, "model.mustache for pet");
+        assertEquals(registry.size(), 1);
+    }
+
+    @Test
+    public void normalizesPaths() {
+        OutputFileRegistry registry = new OutputFileRegistry();
+
+        assertNull(registry.register(Paths.get("/out/src/./api/PetApi.java").toAbsolutePath(), "api.mustache for PetApi"));
+        assertNotNull(registry.register(Paths.get("/out/src/api/PetApi.java").toAbsolutePath(), "api.mustache for PetApi"));
+        assertNull(registry.register(Paths.get("/out/src/api/StoreApi.java").toAbsolutePath(), "api.mustache for StoreApi"));
+        assertEquals(registry.size(), 2);
+    }
+}
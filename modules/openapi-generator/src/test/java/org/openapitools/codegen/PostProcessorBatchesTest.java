@@ -0,0 +1,49 @@
+package org.openapitools.codegen;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.testng.Assert.*;
+
+public class PostProcessorBatchesTest {
+    @Test
+    public void runsOneCommandPerBatch() {
+        List<String> commands = new CopyOnWriteArrayList<>();
+        PostProcessorBatches batches = new PostProcessorBatches(2, 1000, 2, commands::add);
+
+        batches.add("fmt -w", "A.java");
+        batches.add("fmt -w", "B.java");
+        batches.add("other", "c.md");
+        batches.add("fmt -w", "C.java");
+        assertTrue(batches.await());
+
+        assertEquals(Set.copyOf(commands), Set.of("fmt -w A.java B.java", "fmt -w C.java", "other c.md"));
+        assertEquals(commands.size(), 3);
+    }
+
+    @Test
+    public void limitsCommandLength() {
+        List<String> commands = new CopyOnWriteArrayList<>();
+        PostProcessorBatches batches = new PostProcessorBatches(100, "fmt A.java B.java".length(), 1, commands::add);
+
+        batches.add("fmt", "A.java");
+        batches.add("fmt", "B.java");
+        batches.add("fmt", "C.java");
+        assertTrue(batches.await());
+
+        assertEquals(commands, List.of("fmt A.java B.java", "fmt C.java"));
+    }
+
+    @Test
+    public void reportsFailedCommands() {
+        PostProcessorBatches batches = new PostProcessorBatches(10, 1000, 1, command -> !command.contains("Bad"));
+
+        batches.add("fmt", "Good.java");
+        batches.add("lint", "Bad.java");
+
+        assertFalse(batches.await());
+    }
+}
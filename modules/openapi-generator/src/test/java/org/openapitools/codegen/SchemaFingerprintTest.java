@@ -0,0 +1,53 @@
+package org.openapitools.codegen;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+public class SchemaFingerprintTest {
+    private final ObjectMapper mapper = Json.mapper().copy()
+            .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true);
+
+    @Test
+    public void structurallyEqualSchemasHaveTheSameFingerprint() throws Exception {
+        Schema first = new ObjectSchema().description("pet")
+                .addProperty("id", new IntegerSchema())
+                .addProperty("name", new StringSchema());
+        Schema second = new ObjectSchema().description("pet")
+                .addProperty("id", new IntegerSchema())
+                .addProperty("name", new StringSchema());
+
+        assertNotSame(first, second);
+        assertEquals(SchemaFingerprint.of(mapper, first), SchemaFingerprint.of(mapper, second));
+        assertEquals(SchemaFingerprint.of(mapper, first).hashCode(), SchemaFingerprint.of(mapper, second).hashCode());
+        assertEquals(SchemaFingerprint.of(mapper, first).toString().length(), 32);
+    }
+
+    @Test
+    public void differentSchemasHaveDifferentFingerprints() throws Exception {
+        Schema schema = new ObjectSchema().addProperty("id", new IntegerSchema());
+
+        assertNotEquals(SchemaFingerprint.of(mapper, schema),
+                SchemaFingerprint.of(mapper, new ObjectSchema().addProperty("id", new StringSchema())));
+        assertNotEquals(SchemaFingerprint.of(mapper, schema),
+                SchemaFingerprint.of(mapper, new ObjectSchema().addProperty("key", new IntegerSchema())));
+        assertNotEquals(SchemaFingerprint.of(mapper, schema),
+                SchemaFingerprint.of(mapper, new ObjectSchema().addProperty("id", new IntegerSchema()).nullable(true)));
+    }
+
+    @Test
+    public void fingerprintMatchesTheSerializedForm() throws Exception {
+        Schema schema = new ObjectSchema().addProperty("id", new IntegerSchema());
+        Schema reparsed = mapper.readValue(mapper.writeValueAsString(schema), Schema.class);
+
+        assertEquals(mapper.writeValueAsString(reparsed), mapper.writeValueAsString(schema));
+        assertEquals(SchemaFingerprint.of(mapper, reparsed), SchemaFingerprint.of(mapper, schema));
+    }
+}
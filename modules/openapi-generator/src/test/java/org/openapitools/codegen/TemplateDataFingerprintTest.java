@@ -0,0 +1,73 @@
+package org.openapitools.codegen;
+
+import com.samskivert.mustache.Mustache;
+import org.openapitools.codegen.model.LayeredContextMap;
+import org.openapitools.codegen.model.ModelMap;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+public class TemplateDataFingerprintTest {
+    @Test
+    public void sameDataHasTheSameFingerprint() {
+        assertEquals(new TemplateDataFingerprint().of(data("Pet")), new TemplateDataFingerprint().of(data("Pet")));
+        assertNotEquals(new TemplateDataFingerprint().of(data("Pet")), new TemplateDataFingerprint().of(data("Order")));
+    }
+
+    @Test
+    public void ignoresTheGenerationDate() {
+        Map<String, Object> first = data("Pet");
+        first.put("generatedDate", "2024-01-01T00:00:00Z");
+        Map<String, Object> second = data("Pet");
+        second.put("generatedDate", "2024-01-02T00:00:00Z");
+
+        assertEquals(new TemplateDataFingerprint().of(first), new TemplateDataFingerprint().of(second));
+    }
+
+    @Test
+    public void includesInheritedEntries() {
+        LayeredContextMap first = new LayeredContextMap();
+        first.inherit(Map.of("modelPackage", "org.openapitools.model"));
+        LayeredContextMap second = new LayeredContextMap();
+        second.inherit(Map.of("modelPackage", "org.openapitools.client.model"));
+
+        assertNotEquals(new TemplateDataFingerprint().of(first), new TemplateDataFingerprint().of(second));
+    }
+
+    @Test
+    public void followsCycles() {
+        CodegenModel parent = new CodegenModel();
+        parent.name = "Animal";
+        CodegenModel child = new CodegenModel();
+        child.name = "Cat";
+        child.parentModel = parent;
+        parent.children = List.of(child);
+        Map<String, Object> data = new HashMap<>();
+        data.put("model", child);
+        data.put("lambda", (Mustache.Lambda) (fragment, writer) -> writer.write(fragment.execute()));
+
+        byte[] fingerprint = new TemplateDataFingerprint().of(data);
+        assertEquals(new TemplateDataFingerprint().of(new HashMap<>(data)), fingerprint);
+        parent.name = "Pet";
+        assertNotEquals(new TemplateDataFingerprint().of(data), fingerprint);
+    }
+
+    private static Map<String, Object> data(String modelName) {
+        CodegenModel model = new CodegenModel();
+        model.name = modelName;
+        CodegenProperty id = new CodegenProperty();
+        id.name = "id";
+        id.dataType = "Long";
+        model.vars.add(id);
+        ModelMap modelMap = new ModelMap();
+        modelMap.setModel(model);
+        Map<String, Object> data = new HashMap<>();
+        data.put("models", List.of(modelMap));
+        data.put("package", "org.openapitools.model");
+        return data;
+    }
+}
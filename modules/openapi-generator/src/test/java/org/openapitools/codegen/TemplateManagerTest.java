@@ -186,6 +186,32 @@ public class TemplateManagerTest {
         }
     }
 
+    @Test
+    public void minimalUpdateReplacesFilesOfTheSameSize() throws IOException {
+        TemplateManagerOptions opts = new TemplateManagerOptions(true,false);
+        TemplateManager manager = new TemplateManager(opts, mustacheEngineAdapter, new TemplatePathLocator[]{ locator });
+
+        Path target = Files.createTempDirectory("test-templatemanager");
+        try {
+            File output = new File(target.toFile(), "nested/simple.txt");
+
+            manager.writeToFile(output.getPath(), "Teddy and 3");
+            assertEquals(Files.readString(output.toPath()), "Teddy and 3");
+
+            manager.writeToFile(output.getPath(), "Teddy and 4");
+            assertEquals(Files.readString(output.toPath()), "Teddy and 4");
+
+            manager.writeToFile(output.getPath(), "");
+            assertEquals(Files.readString(output.toPath()), "");
+            manager.writeToFile(output.getPath(), "");
+            assertEquals(Files.readString(output.toPath()), "");
+
+            assertEquals(output.getParentFile().list(), new String[]{"simple.txt"});
+        } finally {
+            target.toFile().delete();
+        }
+    }
+
     @Test
     public void overwritesWhenSkipOverwriteFalse() throws IOException {
         TemplateManagerOptions opts = new TemplateManagerOptions(false,false);
@@ -0,0 +1,33 @@
+package org.openapitools.codegen.config;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+public class GlobalSettingsTest {
+
+    @Test
+    public void childThreadsShouldGetACopyOfTheSettings() throws InterruptedException {
+        GlobalSettings.reset();
+        try {
+            GlobalSettings.setProperty("inherited", "parent");
+            AtomicReference<String> inherited = new AtomicReference<>();
+            Thread child = new Thread(() -> {
+                inherited.set(GlobalSettings.getProperty("inherited"));
+                GlobalSettings.setProperty("inherited", "child");
+                GlobalSettings.setProperty("childOnly", "child");
+            });
+            child.start();
+            child.join();
+
+            assertEquals(inherited.get(), "parent");
+            assertEquals(GlobalSettings.getProperty("inherited"), "parent");
+            assertNull(GlobalSettings.getProperty("childOnly"));
+        } finally {
+            GlobalSettings.reset();
+        }
+    }
+}
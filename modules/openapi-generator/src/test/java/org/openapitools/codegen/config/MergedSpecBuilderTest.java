@@ -3,8 +3,11 @@ package org.openapitools.codegen.config;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -14,6 +17,11 @@ import org.openapitools.codegen.java.assertions.JavaFileAssert;
 import org.openapitools.codegen.languages.SpringCodegen;
 import org.testng.annotations.Test;
 
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.google.common.collect.ImmutableMap;
 
 import io.swagger.parser.OpenAPIParser;
@@ -32,6 +40,63 @@ public class MergedSpecBuilderTest {
         mergeSpecs("json");
     }
 
+    @Test
+    public void shouldOnlyReadChangedSpecs() throws IOException {
+        File output = Files.createTempDirectory("spec-directory").toFile().getCanonicalFile();
+        output.deleteOnExit();
+
+        Path spec1 = output.toPath().resolve("spec1.yaml");
+        Path spec2 = output.toPath().resolve("spec2.yaml");
+        Files.copy(Paths.get("src/test/resources/bugs/mergerTest/spec1.yaml"), spec1);
+        Files.copy(Paths.get("src/test/resources/bugs/mergerTest/spec2.yaml"), spec2);
+        Files.writeString(output.toPath().resolve("README.md"), "Not a specification");
+
+        String outputPath = output.getAbsolutePath().replace('\\', '/');
+
+        String mergedSpec = new MergedSpecBuilder(outputPath, "_merged_file").buildMergedSpec();
+        assertEquals(getPaths(mergedSpec), Set.of("/spec1", "/spec1/complex/{param1}/path", "/spec2"));
+
+        Path manifest = output.toPath().resolve("_merged_file.manifest.json");
+        assertTrue(Files.exists(manifest));
+
+        // unchanged specs are taken from the manifest, changed ones are read again
+        Files.writeString(manifest, Files.readString(manifest).replace("\"/spec1\"", "\"/spec1/cached\""));
+        Files.writeString(spec2, Files.readString(spec2).replace("/spec2:", "/spec2/changed:"));
+
+        mergedSpec = new MergedSpecBuilder(outputPath, "_merged_file").buildMergedSpec();
+        assertEquals(getPaths(mergedSpec), Set.of("/spec1/cached", "/spec1/complex/{param1}/path", "/spec2/changed"));
+    }
+
+    @Test
+    public void shouldParseSpecsWithoutOpenapiVersion() throws IOException {
+        File output = Files.createTempDirectory("spec-directory").toFile().getCanonicalFile();
+        output.deleteOnExit();
+
+        Files.writeString(output.toPath().resolve("swagger.yaml"), String.join("\n",
+                "swagger: '2.0'",
+                "info:",
+                "  title: fragment",
+                "  version: 1.0.0",
+                "paths:",
+                "  /swagger:",
+                "    get:",
+                "      responses:",
+                "        '200':",
+                "          description: OK",
+                ""));
+
+        String mergedSpec = new MergedSpecBuilder(output.getAbsolutePath().replace('\\', '/'), "_merged_file").buildMergedSpec();
+
+        assertEquals(getPaths(mergedSpec), Set.of("/swagger"));
+        assertTrue(new ObjectMapper(new YAMLFactory()).readTree(new File(mergedSpec)).path("openapi").asText().startsWith("3.0"));
+    }
+
+    private static Set<String> getPaths(String mergedSpec) throws IOException {
+        Set<String> paths = new HashSet<>();
+        new ObjectMapper(new YAMLFactory()).readTree(new File(mergedSpec)).get("paths").fieldNames().forEachRemaining(paths::add);
+        return paths;
+    }
+
     private void mergeSpecs(String fileExt) throws IOException {
         File output = Files.createTempDirectory("spec-directory").toFile().getCanonicalFile();
         output.deleteOnExit();
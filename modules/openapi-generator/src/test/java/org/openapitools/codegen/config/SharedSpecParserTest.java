@@ -0,0 +1,94 @@
+package org.openapitools.codegen.config;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.SpecVersion;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertTrue;
+
+public class SharedSpecParserTest {
+
+    @Test
+    public void shouldParseEachSpecOnce() throws IOException {
+        Path spec = Files.createTempFile("shared-spec", ".yaml");
+        try {
+            Files.copy(Paths.get("src/test/resources/3_0/petstore.yaml"), spec, StandardCopyOption.REPLACE_EXISTING);
+            SharedSpecParser parser = new SharedSpecParser();
+
+            OpenAPI first = parse(parser, spec.toString()).getOpenAPI();
+            Files.writeString(spec, "openapi: 3.0.0\ninfo:\n  title: Changed\n  version: 1.0.0\npaths: {}\n");
+            OpenAPI second = parse(parser, spec.toString()).getOpenAPI();
+
+            assertEquals(second.getInfo().getTitle(), first.getInfo().getTitle());
+            assertEquals(second.getPaths().keySet(), first.getPaths().keySet());
+            assertEquals(second.getSpecVersion(), SpecVersion.V30);
+        } finally {
+            Files.deleteIfExists(spec);
+        }
+    }
+
+    @Test
+    public void shouldGiveEachCallerItsOwnCopy() {
+        SharedSpecParser parser = new SharedSpecParser();
+        String spec = "src/test/resources/3_0/petstore.yaml";
+
+        OpenAPI first = parse(parser, spec).getOpenAPI();
+        first.getComponents().getSchemas().remove("Pet");
+        first.getInfo().setTitle("Modified");
+        OpenAPI second = parse(parser, spec).getOpenAPI();
+        OpenAPI third = parse(parser, spec).getOpenAPI();
+
+        assertNotSame(second, third);
+        assertTrue(second.getComponents().getSchemas().containsKey("Pet"));
+        assertEquals(second.getInfo().getTitle(), "OpenAPI Petstore");
+        second.getInfo().setTitle("Modified again");
+        assertEquals(third.getInfo().getTitle(), "OpenAPI Petstore");
+    }
+
+    @Test
+    public void shouldKeepTheVersionOfOpenApi31Specs() {
+        SharedSpecParser parser = new SharedSpecParser();
+        String spec = "src/test/resources/3_1/petstore.yaml";
+
+        OpenAPI first = parse(parser, spec).getOpenAPI();
+        OpenAPI second = parse(parser, spec).getOpenAPI();
+
+        assertEquals(first.getSpecVersion(), SpecVersion.V31);
+        assertEquals(second.getSpecVersion(), SpecVersion.V31);
+        assertEquals(second.getComponents().getSchemas().keySet(), first.getComponents().getSchemas().keySet());
+    }
+
+    @Test
+    public void shouldCopyTheValidationMessages() throws IOException {
+        Path spec = Files.createTempFile("shared-spec", ".yaml");
+        try {
+            Files.writeString(spec, "openapi: 3.0.0\ninfo:\n  version: 1.0.0\npaths: {}\n");
+            SharedSpecParser parser = new SharedSpecParser();
+
+            SwaggerParseResult first = parse(parser, spec.toString());
+            SwaggerParseResult second = parse(parser, spec.toString());
+
+            assertTrue(first.getMessages().contains("attribute info.title is missing"), first.getMessages().toString());
+            assertEquals(second.getMessages(), first.getMessages());
+            assertNotSame(second.getMessages(), first.getMessages());
+        } finally {
+            Files.deleteIfExists(spec);
+        }
+    }
+
+    private static SwaggerParseResult parse(SharedSpecParser parser, String spec) {
+        ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        return parser.parse(spec, null, options);
+    }
+}
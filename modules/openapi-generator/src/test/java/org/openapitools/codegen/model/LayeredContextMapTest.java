@@ -0,0 +1,47 @@
+package org.openapitools.codegen.model;
+
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+public class LayeredContextMapTest {
+    @Test
+    public void inheritedEntriesBehaveAsCopiedEntries() {
+        Map<String, Object> shared = Map.of("package", "org.example", "appVersion", "1.0", "useTags", true);
+        LayeredContextMap copied = new LayeredContextMap();
+        LayeredContextMap layered = new LayeredContextMap();
+        for (LayeredContextMap map : new LayeredContextMap[]{copied, layered}) {
+            map.put("package", "local");
+            map.put("basePath", "/v1");
+        }
+
+        copied.putAll(shared);
+        copied.put("appVersion", "2.0");
+        layered.inherit(shared);
+        layered.put("appVersion", "2.0");
+
+        for (String key : new String[]{"package", "basePath", "appVersion", "useTags", "missing"}) {
+            assertEquals(layered.get(key), copied.get(key), key);
+            assertEquals(layered.containsKey(key), copied.containsKey(key), key);
+            assertEquals(layered.getOrDefault(key, "default"), copied.getOrDefault(key, "default"), key);
+        }
+        assertEquals(layered.size(), 3);
+        assertSame(layered.getInherited(), shared);
+    }
+
+    @Test
+    public void doesNotReplaceInheritedEntriesIfAbsent() {
+        LayeredContextMap map = new LayeredContextMap();
+        map.inherit(Map.of("version", "1.0"));
+
+        assertEquals(map.putIfAbsent("version", "2.0"), "1.0");
+        assertEquals(map.computeIfAbsent("version", key -> "2.0"), "1.0");
+        assertNull(map.putIfAbsent("classname", "Pet"));
+        assertEquals(map.computeIfAbsent("classVarName", key -> "pet"), "pet");
+
+        assertEquals(new HashMap<>(map), Map.of("classname", "Pet", "classVarName", "pet"));
+    }
+}
@@ -0,0 +1,53 @@
+package org.openapitools.codegen.model;
+
+import org.openapitools.codegen.CodegenModel;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+public class ModelIndexTest {
+    @Test
+    public void lookupsMatchAScanOfTheModels() {
+        ModelMap pet = modelMap("Pet", "pet", null, false);
+        ModelMap cat = modelMap("Cat", "cat", "Pet", false);
+        ModelMap status = modelMap("Status", "status", null, true);
+        ModelMap duplicate = modelMap("Pet", "other_pet", null, true);
+        List<ModelMap> models = new ArrayList<>(Arrays.asList(pet, cat, status, duplicate));
+
+        ModelIndex index = ModelIndex.of(models);
+
+        assertEquals(index.getModels(), models);
+        assertSame(index.getByClassname("Pet"), pet.getModel());
+        assertSame(index.getBySchemaName("other_pet"), duplicate.getModel());
+        assertSame(index.getByImportPath("models.Cat"), cat);
+        assertNull(index.getByClassname("Dog"));
+        assertNull(index.getByClassname(null));
+        assertTrue(index.isEnum("Status"));
+        assertFalse(index.isEnum("Pet"));
+        assertFalse(index.isEnum("Dog"));
+        assertEquals(index.getChildren("Pet"), Collections.singletonList(cat.getModel()));
+        assertTrue(index.getChildren("Cat").isEmpty());
+
+        assertTrue(index.isOf(models));
+        assertFalse(index.isOf(new ArrayList<>(models)));
+        models.add(modelMap("Dog", "dog", "Pet", false));
+        assertFalse(index.isOf(models));
+    }
+
+    private static ModelMap modelMap(String classname, String schemaName, String parent, boolean isEnum) {
+        CodegenModel model = new CodegenModel();
+        model.classname = classname;
+        model.schemaName = schemaName;
+        model.parent = parent;
+        model.isEnum = isEnum;
+        ModelMap modelMap = new ModelMap();
+        modelMap.setModel(model);
+        modelMap.put("importPath", "models." + classname);
+        return modelMap;
+    }
+}
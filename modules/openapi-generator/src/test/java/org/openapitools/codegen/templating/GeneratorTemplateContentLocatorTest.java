@@ -0,0 +1,47 @@
+package org.openapitools.codegen.templating;
+
+import org.openapitools.codegen.languages.JavaClientCodegen;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Paths;
+
+import static org.testng.Assert.*;
+
+public class GeneratorTemplateContentLocatorTest {
+    @Test
+    public void resolvesLibraryTemplatesBeforeRootTemplates() {
+        JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.setLibrary("okhttp-gson");
+        GeneratorTemplateContentLocator locator = new GeneratorTemplateContentLocator(codegen);
+
+        assertEquals(locator.getFullTemplatePath("ApiClient.mustache"),
+                Paths.get("Java", "libraries", "okhttp-gson", "ApiClient.mustache").toString());
+        assertEquals(locator.getFullTemplatePath("licenseInfo.mustache"), "Java" + File.separator + "licenseInfo.mustache");
+        assertNull(locator.getFullTemplatePath("doesNotExist.mustache"));
+    }
+
+    @Test
+    public void reResolvesWhenLibraryChanges() {
+        JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.setLibrary("okhttp-gson");
+        GeneratorTemplateContentLocator locator = new GeneratorTemplateContentLocator(codegen);
+        assertEquals(locator.getFullTemplatePath("ApiClient.mustache"),
+                Paths.get("Java", "libraries", "okhttp-gson", "ApiClient.mustache").toString());
+
+        codegen.setLibrary("feign");
+        assertEquals(locator.getFullTemplatePath("ApiClient.mustache"),
+                Paths.get("Java", "libraries", "feign", "ApiClient.mustache").toString());
+    }
+
+    @Test
+    public void indexesEmbeddedTemplates() {
+        EmbeddedTemplateIndex index = new EmbeddedTemplateIndex("Java");
+
+        assertTrue(index.contains("Java/model.mustache"));
+        assertTrue(index.contains("Java/libraries/okhttp-gson/ApiClient.mustache"));
+        assertTrue(index.contains(Paths.get("Java", "libraries", "okhttp-gson", "..", "okhttp-gson", "api.mustache").toString()));
+        assertFalse(index.contains("Java/doesNotExist.mustache"));
+        assertFalse(index.contains("Javascript/model.mustache"));
+    }
+}
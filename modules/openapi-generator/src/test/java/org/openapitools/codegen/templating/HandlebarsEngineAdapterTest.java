@@ -2,6 +2,7 @@ package org.openapitools.codegen.templating;
 
 import org.mockito.Mockito;
 import org.openapitools.codegen.api.TemplatingExecutor;
+import org.openapitools.codegen.model.ModelsMap;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
@@ -9,6 +10,7 @@ import java.io.IOException;
 import java.util.Map;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 
 public class HandlebarsEngineAdapterTest {
     @Test(dataProvider = "handlesFileExpectations")
@@ -54,6 +56,26 @@ public class HandlebarsEngineAdapterTest {
         assertEquals(generatedFile, "Contents: 'Specific contents'");
     }
 
+    @Test(description = "should resolve entries inherited by a layered context")
+    public void testLayeredContext() throws IOException {
+        // Given
+        HandlebarsEngineAdapter adapter = new HandlebarsEngineAdapter();
+        TemplatingExecutor executorMock = Mockito.mock(TemplatingExecutor.class);
+        Mockito.when(executorMock.getFullTemplateContents("layered.hbs"))
+                .thenReturn("{{classname}} {{package}}{{#if useTags}} tagged{{/if}}{{#unless missing}} done{{/unless}}");
+
+        ModelsMap models = new ModelsMap();
+        models.put("package", "local");
+        models.inherit(Map.of("package", "org.example", "useTags", true));
+        models.put("classname", "Pet");
+
+        // When
+        String generatedFile = adapter.compileTemplate(executorMock, models, "layered.hbs");
+
+        // Then
+        assertEquals(generatedFile, "Pet org.example tagged done");
+    }
+
     @Test(description = "should prioritize public getters over breaking encapsulation")
     public void testResolverPriority() throws IOException {
         // Given
@@ -77,6 +99,29 @@ public class HandlebarsEngineAdapterTest {
                 "  private property: raw_data3");
     }
 
+    @Test(description = "reuses one engine per adapter while honoring the templates of each executor")
+    public void testEngineReuse() throws IOException {
+        // Given
+        HandlebarsEngineAdapter adapter = new HandlebarsEngineAdapter();
+        TemplatingExecutor first = Mockito.mock(TemplatingExecutor.class);
+        Mockito.when(first.getFullTemplateContents("outerTemplate.hbs")).thenReturn("first {{name}} {{>innerTemplate}}");
+        Mockito.when(first.getFullTemplateContents("innerTemplate.hbs")).thenReturn("inner");
+        TemplatingExecutor second = Mockito.mock(TemplatingExecutor.class);
+        Mockito.when(second.getFullTemplateContents("outerTemplate.hbs")).thenReturn("second {{name}} {{>innerTemplate}}");
+        Mockito.when(second.getFullTemplateContents("innerTemplate.hbs")).thenReturn("other inner");
+
+        // When
+        String one = adapter.compileTemplate(first, Map.of("name", "a"), "outerTemplate.hbs");
+        String two = adapter.compileTemplate(first, Map.of("name", "b"), "outerTemplate.hbs");
+        String three = adapter.compileTemplate(second, Map.of("name", "c"), "outerTemplate.hbs");
+
+        // Then
+        assertEquals(one, "first a inner");
+        assertEquals(two, "first b inner");
+        assertEquals(three, "second c other inner");
+        assertSame(adapter.handlebars(), adapter.handlebars());
+    }
+
     static class PropertyObject {
         /**
          * getter-exposed
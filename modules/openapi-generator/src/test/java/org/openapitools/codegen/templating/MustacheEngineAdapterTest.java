@@ -0,0 +1,110 @@
+package org.openapitools.codegen.templating;
+
+import org.mockito.Mockito;
+import org.openapitools.codegen.CodegenConstants;
+import org.openapitools.codegen.api.TemplatingExecutor;
+import org.openapitools.codegen.model.OperationsMap;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+
+public class MustacheEngineAdapterTest {
+    private static Map<String, Object> bundle(String name) {
+        Map<String, Object> bundle = new HashMap<>();
+        bundle.put("name", name);
+        bundle.put(CodegenConstants.MUSTACHE_PARENT_CONTEXT, new Object());
+        return bundle;
+    }
+
+    @Test
+    public void compilesTemplateOncePerScope() throws IOException {
+        MustacheEngineAdapter adapter = new MustacheEngineAdapter();
+        adapter.setTemplateCacheScope("scope");
+        TemplatingExecutor executor = Mockito.mock(TemplatingExecutor.class);
+        Mockito.when(executor.getFullTemplateContents("outer.mustache")).thenReturn("Hello {{>inner}}");
+        Mockito.when(executor.getFullTemplateContents("inner.mustache")).thenReturn("{{name}}!");
+
+        assertEquals(adapter.compileTemplate(executor, bundle("Alice"), "outer.mustache"), "Hello Alice!");
+        assertEquals(adapter.compileTemplate(executor, bundle("Bob"), "outer.mustache"), "Hello Bob!");
+
+        Mockito.verify(executor, Mockito.times(1)).getFullTemplateContents("outer.mustache");
+        Mockito.verify(executor, Mockito.times(1)).getFullTemplateContents("inner.mustache");
+        assertEquals(adapter.getTemplateCache().size(), 1L);
+    }
+
+    @Test
+    public void doesNotCacheWithoutScope() throws IOException {
+        MustacheEngineAdapter adapter = new MustacheEngineAdapter();
+        TemplatingExecutor first = Mockito.mock(TemplatingExecutor.class);
+        Mockito.when(first.getFullTemplateContents("simple.mustache")).thenReturn("first {{name}}");
+        TemplatingExecutor second = Mockito.mock(TemplatingExecutor.class);
+        Mockito.when(second.getFullTemplateContents("simple.mustache")).thenReturn("second {{name}}");
+
+        assertEquals(adapter.compileTemplate(first, bundle("x"), "simple.mustache"), "first x");
+        assertEquals(adapter.compileTemplate(second, bundle("x"), "simple.mustache"), "second x");
+    }
+
+    @Test
+    public void separatesScopesInSharedCache() throws IOException {
+        CompiledTemplateCache<com.samskivert.mustache.Template> cache = new CompiledTemplateCache<>(10);
+        MustacheEngineAdapter library1 = new MustacheEngineAdapter();
+        library1.setTemplateCache(cache);
+        library1.setTemplateCacheScope("library1");
+        MustacheEngineAdapter library2 = new MustacheEngineAdapter();
+        library2.setTemplateCache(cache);
+        library2.setTemplateCacheScope("library2");
+
+        TemplatingExecutor first = Mockito.mock(TemplatingExecutor.class);
+        Mockito.when(first.getFullTemplateContents("simple.mustache")).thenReturn("first {{name}}");
+        TemplatingExecutor second = Mockito.mock(TemplatingExecutor.class);
+        Mockito.when(second.getFullTemplateContents("simple.mustache")).thenReturn("second {{name}}");
+
+        assertEquals(library1.compileTemplate(first, bundle("x"), "simple.mustache"), "first x");
+        assertEquals(library2.compileTemplate(second, bundle("x"), "simple.mustache"), "second x");
+        assertEquals(library1.compileTemplate(second, bundle("y"), "simple.mustache"), "first y");
+        assertEquals(cache.size(), 2L);
+    }
+
+    @Test
+    public void loadsPartialsOfSharedTemplatesThroughTheCallingAdapter() throws IOException {
+        CompiledTemplateCache<com.samskivert.mustache.Template> cache = new CompiledTemplateCache<>(10);
+        MustacheEngineAdapter firstRun = new MustacheEngineAdapter();
+        firstRun.setTemplateCache(cache);
+        firstRun.setTemplateCacheScope("scope");
+        MustacheEngineAdapter secondRun = new MustacheEngineAdapter();
+        secondRun.setTemplateCache(cache);
+        secondRun.setTemplateCacheScope("scope");
+
+        TemplatingExecutor executor = Mockito.mock(TemplatingExecutor.class);
+        Mockito.when(executor.getFullTemplateContents("outer.mustache")).thenReturn("Hello{{#name}} {{>inner}}{{/name}}");
+        Mockito.when(executor.getFullTemplateContents("inner.mustache")).thenReturn("{{name}}!");
+
+        Map<String, Object> anonymous = bundle("x");
+        anonymous.remove("name");
+        assertEquals(firstRun.compileTemplate(executor, anonymous, "outer.mustache"), "Hello");
+        assertEquals(secondRun.compileTemplate(executor, bundle("Bob"), "outer.mustache"), "Hello Bob!");
+        assertEquals(cache.size(), 1L);
+    }
+
+    @Test
+    public void resolvesInheritedContextEntries() throws IOException {
+        MustacheEngineAdapter adapter = new MustacheEngineAdapter();
+        TemplatingExecutor executor = Mockito.mock(TemplatingExecutor.class);
+        Mockito.when(executor.getFullTemplateContents("layered.mustache"))
+                .thenReturn("{{classname}} {{package}}{{#useTags}} tagged{{/useTags}}{{^missing}} done{{/missing}}");
+
+        OperationsMap operations = new OperationsMap();
+        operations.put("package", "local");
+        Map<String, Object> shared = bundle("x");
+        shared.put("package", "org.example");
+        shared.put("useTags", true);
+        operations.inherit(shared);
+        operations.put("classname", "PetApi");
+
+        assertEquals(adapter.compileTemplate(executor, operations, "layered.mustache"), "PetApi org.example tagged done");
+    }
+}
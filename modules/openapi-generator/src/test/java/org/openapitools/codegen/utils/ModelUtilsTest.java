@@ -118,6 +118,24 @@ public class ModelUtilsTest {
         Assert.assertTrue(unusedSchemas.contains("SomeObj7"), "contains 'SomeObj7'");
     }
 
+    @Test
+    public void testSchemaUsageIsReusedUntilSchemasChange() {
+        final OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/unusedSchemas.yaml");
+        SchemaUsage usage = ModelUtils.getSchemaUsage(openAPI);
+        Assert.assertSame(ModelUtils.getSchemaUsage(openAPI), usage);
+        Assert.assertTrue(usage.isUsed("SomeObj1"));
+        Assert.assertFalse(usage.isUsed("UnusedObj1"));
+        Assert.assertEquals(usage.getChildrenMap().get("Parent30"), Arrays.asList("AChild30", "BChild30"));
+
+        openAPI.getComponents().addSchemas("UnusedObj5", new ObjectSchema());
+        SchemaUsage updated = ModelUtils.getSchemaUsage(openAPI);
+        Assert.assertNotSame(updated, usage);
+        Assert.assertTrue(updated.getUnusedSchemas().contains("UnusedObj5"));
+
+        ModelUtils.clearSchemaUsage(openAPI);
+        Assert.assertNotSame(ModelUtils.getSchemaUsage(openAPI), updated);
+    }
+
     @Test
     public void testNestedFormParameter() {
         final OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/2_0/nestedFormParameter.yaml");
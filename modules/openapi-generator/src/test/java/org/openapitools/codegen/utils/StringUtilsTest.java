@@ -3,6 +3,11 @@ package org.openapitools.codegen.utils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 import static org.openapitools.codegen.utils.CamelizeOption.LOWERCASE_FIRST_CHAR;
 import static org.openapitools.codegen.utils.CamelizeOption.LOWERCASE_FIRST_LETTER;
 import static org.openapitools.codegen.utils.StringUtils.*;
@@ -45,4 +50,53 @@ public class StringUtilsTest {
         Assert.assertEquals(dashize("Foo_Response__links"), "foo-response-links");
         Assert.assertEquals(dashize("Foo Response _links"), "foo-response-links");
     }
+
+    @Test
+    public void testEscape() {
+        Map<String, String> replacements = new HashMap<>();
+        replacements.put("$", "Dollar");
+        replacements.put("-", "Minus");
+        Assert.assertEquals(escape("a$b-c", replacements, Collections.singletonList("-"), "_"), "aDollar_b-c");
+        Assert.assertEquals(escape("a$b-c", replacements, null, null), "aDollarbMinusc");
+        Assert.assertThrows(RuntimeException.class, () -> escape("", replacements, null, null));
+    }
+
+    @Test
+    public void testNameCacheStatsAreScopedToARun() {
+        NameCache<String> cache = new NameCache<>("upper", -1);
+        Assert.assertEquals(cache.get("a", k -> k.toUpperCase(Locale.ROOT)), "A");
+        Assert.assertEquals(cache.get("a", k -> "unused"), "A");
+        Assert.assertEquals(cache.describe(cache.release()), "upper: 1 hits, 1 misses (50.0%)");
+
+        Assert.assertEquals(cache.stats().requestCount(), 0);
+        Assert.assertEquals(cache.get("a", k -> "a again"), "a again");
+        Assert.assertEquals(cache.stats().missCount(), 1);
+    }
+
+    @Test
+    public void testNameCachesAreOwnedByTheRunOfTheThread() throws InterruptedException {
+        Assert.assertEquals(releaseNameCaches(), Collections.emptyList());
+        Assert.assertEquals(camelize("not_cached"), "NotCached");
+        Assert.assertEquals(releaseNameCaches(), Collections.emptyList());
+
+        installNameCaches();
+        try {
+            camelize("one_run");
+            camelize("one_run");
+            // another run ending on another thread, e.g. in a batch, keeps the entries of this one
+            Thread other = new Thread(() -> {
+                installNameCaches();
+                camelize("other_run");
+                releaseNameCaches();
+            });
+            other.start();
+            other.join();
+            // a thread started by the run shares its caches
+            Thread rendering = new Thread(() -> camelize("one_run"));
+            rendering.start();
+            rendering.join();
+        } finally {
+            Assert.assertEquals(releaseNameCaches().get(0), "camelize: 2 hits, 1 misses (66.7%)");
+        }
+    }
 }
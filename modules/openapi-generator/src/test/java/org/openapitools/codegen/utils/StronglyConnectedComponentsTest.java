@@ -0,0 +1,47 @@
+package org.openapitools.codegen.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+public class StronglyConnectedComponentsTest {
+    @Test
+    public void findsCyclesAndSelfReferences() {
+        Map<String, List<String>> edges = new LinkedHashMap<>();
+        edges.put("Inbound", List.of("RoundA"));
+        edges.put("RoundA", List.of("RoundB"));
+        edges.put("RoundB", List.of("RoundC"));
+        edges.put("RoundC", List.of("RoundA", "Outbound"));
+        edges.put("Tree", List.of("Tree", "string"));
+
+        StronglyConnectedComponents components = new StronglyConnectedComponents(edges);
+
+        Assert.assertEquals(components.getComponent("RoundB"), Set.of("RoundA", "RoundB", "RoundC"));
+        Assert.assertTrue(components.areStronglyConnected("RoundC", "RoundA"));
+        Assert.assertFalse(components.areStronglyConnected("Inbound", "RoundA"));
+        Assert.assertTrue(components.isCyclic("Tree"));
+        Assert.assertFalse(components.isCyclic("Inbound"));
+        Assert.assertFalse(components.isCyclic("string"));
+        Assert.assertEquals(components.getComponent("Outbound"), Set.of("Outbound"));
+        Assert.assertTrue(components.getComponent("Unknown").isEmpty());
+        // a component is listed after the components it depends on
+        List<Set<String>> all = components.getComponents();
+        Assert.assertTrue(all.indexOf(Set.of("Outbound")) < all.indexOf(Set.of("RoundA", "RoundB", "RoundC")));
+        Assert.assertTrue(all.indexOf(Set.of("RoundA", "RoundB", "RoundC")) < all.indexOf(Set.of("Inbound")));
+    }
+
+    @Test
+    public void handlesLongChains() {
+        Map<String, List<String>> edges = new HashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            edges.put("Model" + i, List.of("Model" + (i + 1)));
+        }
+        edges.put("Model100000", List.of("Model0"));
+
+        StronglyConnectedComponents components = new StronglyConnectedComponents(edges);
+
+        Assert.assertEquals(components.getComponents().size(), 1);
+        Assert.assertTrue(components.areStronglyConnected("Model0", "Model99999"));
+    }
+}
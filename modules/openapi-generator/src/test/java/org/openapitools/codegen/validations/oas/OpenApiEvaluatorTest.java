@@ -0,0 +1,49 @@
+package org.openapitools.codegen.validations.oas;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openapitools.codegen.TestUtils;
+import org.openapitools.codegen.validation.Invalid;
+import org.openapitools.codegen.validation.ValidationResult;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class OpenApiEvaluatorTest {
+    @Test(description = "Results of parallel validations are added in document order")
+    public void testResultsAreDeterministic() {
+        OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/petstore-with-fake-endpoints-models-for-testing.yaml");
+        RuleConfiguration config = new RuleConfiguration();
+        config.setEnableRecommendations(true);
+        OpenApiEvaluator validator = new OpenApiEvaluator(config);
+
+        List<String> first = messages(validator.validate(openAPI));
+        Assert.assertFalse(first.isEmpty());
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(messages(validator.validate(openAPI)), first);
+        }
+    }
+
+    @Test
+    public void testTimingsPerCategory() {
+        OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/petstore.yaml");
+        RuleConfiguration config = new RuleConfiguration();
+        config.setEnableRecommendations(true);
+        OpenApiEvaluator validator = new OpenApiEvaluator(config);
+        validator.validate(openAPI);
+
+        Assert.assertEquals(new ArrayList<>(validator.getTimings().keySet()), Arrays.asList(
+                OpenApiEvaluator.UNUSED_SCHEMAS, OpenApiEvaluator.SCHEMAS, OpenApiEvaluator.OPERATIONS,
+                OpenApiEvaluator.SECURITY_SCHEMES, OpenApiEvaluator.PARAMETERS, OpenApiEvaluator.TAGS));
+
+        validator.validate(null);
+        Assert.assertTrue(validator.getTimings().isEmpty());
+    }
+
+    private static List<String> messages(ValidationResult result) {
+        return result.getWarnings().stream().map(Invalid::getMessage).collect(Collectors.toList());
+    }
+}